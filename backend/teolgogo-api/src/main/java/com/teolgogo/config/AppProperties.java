@@ -15,6 +15,7 @@ import java.util.List;
 public class AppProperties {
     private final Auth auth = new Auth();
     private final OAuth2 oauth2 = new OAuth2();
+    private final RateLimit rateLimit = new RateLimit();
 
     @Getter
     @Setter
@@ -29,4 +30,42 @@ public class AppProperties {
     public static class OAuth2 {
         private List<String> authorizedRedirectUris = new ArrayList<>();
     }
+
+    /**
+     * 경로별 요청 수 제한 (토큰 버킷, app.rate-limit.*)
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        // 이 시간 동안 요청이 없는 버킷은 메모리에서 제거
+        private int idleMinutes = 10;
+        // 프록시 뒤에서 실행할 때만 X-Forwarded-For를 사용
+        private boolean trustForwardedFor = false;
+        // 앞단의 신뢰하는 프록시 수 (X-Forwarded-For의 오른쪽에서 이 번째 주소를 클라이언트 IP로 사용)
+        // 프록시는 헤더 끝에 주소를 덧붙이므로 왼쪽 주소는 클라이언트가 임의로 보낸 값일 수 있음
+        private int trustedProxyHops = 1;
+        private Rule login = new Rule(10, 10);
+        private Rule signup = new Rule(5, 2);
+        private Rule checkEmail = new Rule(30, 30);
+        private Rule upload = new Rule(10, 10);
+    }
+
+    /**
+     * 버킷 크기(연속 허용 요청 수)와 분당 충전 개수
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+        private int capacity;
+        private int refillPerMinute;
+
+        public Rule() {
+        }
+
+        public Rule(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
 }
\ No newline at end of file
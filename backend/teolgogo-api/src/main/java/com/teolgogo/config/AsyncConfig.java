@@ -0,0 +1,39 @@
+package com.teolgogo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 도메인 이벤트 비동기 처리 설정
+ * 리스너 종류별로 실행기를 따로 두어 한쪽이 밀려도 다른 쪽에 영향이 없도록 함
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String NOTIFICATION_EVENT_EXECUTOR = "notificationEventExecutor";
+
+    /**
+     * 알림 이벤트 실행기
+     * 대기열이 가득 차면 이벤트를 발행한 스레드에서 직접 처리 (알림을 버리지 않음)
+     */
+    @Bean(name = NOTIFICATION_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationEventExecutor(
+            @Value("${app.events.notification.pool-size:4}") int poolSize,
+            @Value("${app.events.notification.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -3,6 +3,8 @@ package com.teolgogo.config;
 import com.teolgogo.security.*;
 import com.teolgogo.security.oauth2.OAuth2AuthorizationRequestRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,8 +14,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -36,6 +36,7 @@ public class SecurityConfig {
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final OAuth2AuthorizationRequestRepository authorizationRequestRepository;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Autowired
     public SecurityConfig(
@@ -44,13 +45,15 @@ public class SecurityConfig {
             OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
             OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler,
             OAuth2AuthorizationRequestRepository authorizationRequestRepository,
-            JwtAuthenticationFilter jwtAuthenticationFilter) {
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter) {
         this.customUserDetailsService = customUserDetailsService;
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
         this.oAuth2AuthenticationFailureHandler = oAuth2AuthenticationFailureHandler;
         this.authorizationRequestRepository = authorizationRequestRepository;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -58,9 +61,27 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt 해시는 전용 스레드 풀에서 계산 (요청 스레드가 해시 계산에 묶이지 않도록 동시 실행 수 제한)
+     * strength는 측정한 해시 시간(p99)을 보고 조정, 기존 해시는 저장된 cost로 그대로 검증됨
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.auth.password-hash.bcrypt-strength:10}") int strength,
+            @Value("${app.auth.password-hash.pool-size:0}") int poolSize,
+            @Value("${app.auth.password-hash.queue-capacity:50}") int queueCapacity,
+            @Value("${app.auth.password-hash.retry-after-seconds:2}") int retryAfterSeconds) {
+        // 기본 크기는 CPU 코어 수 (해시 계산은 CPU 작업이라 그 이상은 처리량이 늘지 않음)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, retryAfterSeconds);
+    }
+
+    // 요청 수 제한 필터는 보안 필터 체인 안에서만 실행 (서블릿 필터로 자동 등록되지 않도록)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     // CORS 설정을 위한 빈 추가
@@ -125,6 +146,8 @@ public class SecurityConfig {
 
         // JWT 필터 추가
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // 요청 수 제한은 JWT 인증보다 먼저 (CORS 필터 뒤라 429 응답에도 CORS 헤더 포함)
+        http.addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -4,10 +4,17 @@ import com.teolgogo.dto.LoginRequest;
 import com.teolgogo.dto.SignupRequest;
 import com.teolgogo.dto.TokenResponse;
 import com.teolgogo.entity.User;
+import com.teolgogo.exception.ServiceBusyException;
+import com.teolgogo.security.BoundedPasswordEncoder;
+import com.teolgogo.security.RateLimiter;
+import com.teolgogo.security.UserPrincipal;
 import com.teolgogo.service.AuthService;
 import com.teolgogo.util.CookieUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,11 +33,16 @@ public class AuthController {
 
     private final AuthService authService;
     private final CookieUtils cookieUtils;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final RateLimiter rateLimiter;
 
     @Autowired
-    public AuthController(AuthService authService, CookieUtils cookieUtils) {
+    public AuthController(AuthService authService, CookieUtils cookieUtils,
+                          BoundedPasswordEncoder passwordEncoder, RateLimiter rateLimiter) {
         this.authService = authService;
         this.cookieUtils = cookieUtils;
+        this.passwordEncoder = passwordEncoder;
+        this.rateLimiter = rateLimiter;
     }
 
     // 로그인 API
@@ -87,7 +99,7 @@ public class AuthController {
 
     // 액세스 토큰 갱신 API
     @PostMapping("/refresh")
-    public ResponseEntity<TokenResponse> refreshToken(HttpServletRequest request) {
+    public ResponseEntity<TokenResponse> refreshToken(HttpServletRequest request, HttpServletResponse response) {
         Optional<String> refreshToken = cookieUtils.getCookie(request, "refresh_token")
                 .map(cookie -> cookie.getValue());
 
@@ -95,14 +107,14 @@ public class AuthController {
             return ResponseEntity.badRequest().build();
         }
 
-        TokenResponse tokenResponse = authService.refreshToken(refreshToken.get());
+        TokenResponse tokenResponse = authService.refreshToken(refreshToken.get(), response);
         return ResponseEntity.ok(tokenResponse);
     }
 
     // 로그아웃 API
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletResponse response) {
-        authService.logout(response);
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
+        authService.logout(request, response);
 
         Map<String, String> responseBody = new HashMap<>();
         responseBody.put("message", "로그아웃되었습니다.");
@@ -110,6 +122,22 @@ public class AuthController {
         return ResponseEntity.ok(responseBody);
     }
 
+    // 모든 기기에서 로그아웃 API
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(@AuthenticationPrincipal UserPrincipal user, HttpServletResponse response) {
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        int revoked = authService.logoutAll(user.getId(), response);
+
+        Map<String, Object> responseBody = new HashMap<>();
+        responseBody.put("message", "모든 기기에서 로그아웃되었습니다.");
+        responseBody.put("revokedSessions", revoked);
+
+        return ResponseEntity.ok(responseBody);
+    }
+
     // 이메일 중복 확인 API
     @GetMapping("/check-email")
     public ResponseEntity<?> checkEmailExists(@RequestParam String email) {
@@ -123,7 +151,7 @@ public class AuthController {
 
     // 사용자 정보 조회 엔드포인트 추가
     @GetMapping("/user")
-    public ResponseEntity<?> getCurrentUser(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getCurrentUser(@AuthenticationPrincipal UserPrincipal user) {
         if (user == null) {
             return ResponseEntity.badRequest().body("인증된 사용자를 찾을 수 없습니다.");
         }
@@ -139,6 +167,34 @@ public class AuthController {
         return ResponseEntity.ok(userResponse);
     }
 
+    /**
+     * 비밀번호 해시 시간과 해시 전용 스레드 풀 상태 (관리자용, BCrypt cost 조정 참고)
+     */
+    @GetMapping("/password-hash/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> getPasswordHashMetrics() {
+        return ResponseEntity.ok(passwordEncoder.getMetrics());
+    }
+
+    /**
+     * 경로별 요청 제한 거절 건수 (관리자용)
+     */
+    @GetMapping("/rate-limit/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> getRateLimitMetrics() {
+        return ResponseEntity.ok(rateLimiter.getMetrics());
+    }
+
+    // 비밀번호 해시 대기열이 가득 찬 경우 (로그인, 회원가입)
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Map<String, String>> handleServiceBusy(ServiceBusyException e) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
 
 
 }
\ No newline at end of file
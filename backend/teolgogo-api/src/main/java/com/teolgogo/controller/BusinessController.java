@@ -0,0 +1,45 @@
+package com.teolgogo.controller;
+
+import com.teolgogo.dto.NearbyBusinessPageDTO;
+import com.teolgogo.service.BusinessSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/businesses")
+public class BusinessController {
+
+    private final BusinessSearchService businessSearchService;
+
+    @Autowired
+    public BusinessController(BusinessSearchService businessSearchService) {
+        this.businessSearchService = businessSearchService;
+    }
+
+    /**
+     * 주변 업체 검색 (거리순, 커서 기반 페이지네이션)
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> findNearbyBusinesses(
+            @RequestParam Double latitude,
+            @RequestParam Double longitude,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) List<String> specialties,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Integer minCompletedServices,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+
+        try {
+            NearbyBusinessPageDTO page = businessSearchService.findNearbyBusinesses(
+                    latitude, longitude, radius, specialties, minRating, minCompletedServices, limit, cursor);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
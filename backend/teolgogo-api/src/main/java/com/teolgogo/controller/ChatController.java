@@ -2,7 +2,9 @@ package com.teolgogo.controller;
 
 import com.teolgogo.dto.ChatMessageDTO;
 import com.teolgogo.dto.ChatRoomDTO;
-import com.teolgogo.entity.User;
+import com.teolgogo.security.UserPrincipal;
+import com.teolgogo.service.ChatMessageWriteBehind;
+import com.teolgogo.service.ChatReadReceiptBuffer;
 import com.teolgogo.service.ChatService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -22,34 +24,51 @@ public class ChatController {
 
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatReadReceiptBuffer readReceiptBuffer;
+    private final ChatMessageWriteBehind messageWriteBehind;
 
     @Autowired
-    public ChatController(ChatService chatService, SimpMessagingTemplate messagingTemplate) {
+    public ChatController(ChatService chatService, SimpMessagingTemplate messagingTemplate,
+                          ChatReadReceiptBuffer readReceiptBuffer, ChatMessageWriteBehind messageWriteBehind) {
         this.chatService = chatService;
         this.messagingTemplate = messagingTemplate;
+        this.readReceiptBuffer = readReceiptBuffer;
+        this.messageWriteBehind = messageWriteBehind;
     }
 
     // 채팅방 목록 조회
     @GetMapping("/rooms")
-    public ResponseEntity<List<ChatRoomDTO>> getChatRooms(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<ChatRoomDTO>> getChatRooms(@AuthenticationPrincipal UserPrincipal user) {
         List<ChatRoomDTO> chatRooms = chatService.getChatRooms(user.getId());
         return ResponseEntity.ok(chatRooms);
     }
 
-    // 채팅방 상세 조회 (메시지 포함)
+    // 채팅방 상세 조회 (최신 메시지 한 페이지 포함)
     @GetMapping("/rooms/{roomId}")
     public ResponseEntity<Map<String, Object>> getChatRoomDetails(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long roomId) {
 
         Map<String, Object> response = chatService.getChatRoomDetails(user.getId(), roomId);
         return ResponseEntity.ok(response);
     }
 
+    // 채팅 메시지 이전 기록 조회 (before: 기준 메시지 ID, 없으면 최신 메시지부터)
+    @GetMapping("/rooms/{roomId}/messages")
+    public ResponseEntity<Map<String, Object>> getMessages(
+            @AuthenticationPrincipal UserPrincipal user,
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Integer limit) {
+
+        Map<String, Object> response = chatService.getMessages(user.getId(), roomId, before, limit);
+        return ResponseEntity.ok(response);
+    }
+
     // 채팅방 생성 (견적 수락 후 자동 생성될 수도 있지만, 수동 생성도 가능)
     @PostMapping("/rooms")
     public ResponseEntity<ChatRoomDTO> createChatRoom(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestBody Map<String, Long> request) {
 
         Long quoteRequestId = request.get("quoteRequestId");
@@ -62,25 +81,29 @@ public class ChatController {
     // WebSocket으로 메시지 전송
     @MessageMapping("/chat/{roomId}/send")
     public void sendMessage(@DestinationVariable Long roomId, @Payload ChatMessageDTO message) {
+        // 일괄 저장을 사용하면 저장을 기다리지 않고 브로드캐스트
+        if (messageWriteBehind.isEnabled()) {
+            messageWriteBehind.submit(roomId, message);
+            return;
+        }
+
         ChatMessageDTO savedMessage = chatService.saveMessage(message);
         messagingTemplate.convertAndSend("/topic/chat/" + roomId, savedMessage);
     }
 
-    // 메시지 읽음 처리
+    // 메시지 읽음 처리 (짧은 간격으로 들어온 요청을 모아 반영 후 /topic/chat/{roomId}/read로 브로드캐스트)
     @MessageMapping("/chat/{roomId}/read")
     public void markMessagesAsRead(
             @DestinationVariable Long roomId,
             @Payload Map<String, List<Long>> payload) {
 
-        List<Long> messageIds = payload.get("messageIds");
-        chatService.markMessagesAsRead(roomId, messageIds);
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/read", payload);
+        readReceiptBuffer.add(roomId, payload.get("messageIds"));
     }
 
     // 채팅 메시지 일반 API를 통해 전송 (WebSocket이 안될 때 대체용)
     @PostMapping("/rooms/{roomId}/messages")
     public ResponseEntity<ChatMessageDTO> sendMessageViaApi(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long roomId,
             @RequestBody Map<String, String> request) {
 
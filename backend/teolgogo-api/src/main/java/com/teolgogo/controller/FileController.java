@@ -1,11 +1,12 @@
 package com.teolgogo.controller;
 
 import com.teolgogo.entity.FileEntity;
-import com.teolgogo.entity.User;
+import com.teolgogo.security.UserPrincipal;
 import com.teolgogo.service.FileService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -38,7 +39,7 @@ public class FileController {
      */
     @PostMapping("/upload")
     public ResponseEntity<?> uploadFile(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam("file") MultipartFile file,
             @RequestParam("category") String category,
             @RequestParam(value = "quoteRequestId", required = false) Long quoteRequestId,
@@ -74,7 +75,7 @@ public class FileController {
      */
     @PostMapping("/upload-multiple")
     public ResponseEntity<?> uploadMultipleFiles(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam("files") MultipartFile[] files,
             @RequestParam("category") String category,
             @RequestParam(value = "quoteRequestId", required = false) Long quoteRequestId,
@@ -125,16 +126,28 @@ public class FileController {
     public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId, HttpServletRequest request) {
         try {
             Resource resource = fileService.loadFileAsResource(fileId);
+            FileEntity fileEntity = fileService.getFile(fileId);
 
-            // 미디어 타입 설정
-            String contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
+            // 미디어 타입 설정 (내용 기준 저장 파일은 확장자가 없으므로 업로드 시 타입 우선)
+            String contentType = fileEntity.getFileType();
             if (contentType == null) {
-                contentType = "application/octet-stream";
+                contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
             }
+            MediaType mediaType;
+            try {
+                mediaType = contentType != null ? MediaType.parseMediaType(contentType) : MediaType.APPLICATION_OCTET_STREAM;
+            } catch (InvalidMediaTypeException e) {
+                // 정리 전에 저장된 잘못된 타입
+                mediaType = MediaType.APPLICATION_OCTET_STREAM;
+            }
+
+            String fileName = fileEntity.getOriginalFileName() != null
+                    ? fileEntity.getOriginalFileName()
+                    : resource.getFilename();
 
             return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
+                    .contentType(mediaType)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
                     .body(resource);
         } catch (Exception ex) {
             return ResponseEntity.notFound().build();
@@ -201,7 +214,7 @@ public class FileController {
     @DeleteMapping("/{fileId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> deleteFile(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long fileId) {
         try {
             fileService.deleteFile(fileId);
@@ -1,7 +1,7 @@
 package com.teolgogo.controller;
 
 import com.teolgogo.entity.Payment;
-import com.teolgogo.entity.User;
+import com.teolgogo.security.UserPrincipal;
 import com.teolgogo.service.PaymentService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,7 +32,7 @@ public class PaymentController {
     @PostMapping("/toss/prepare")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> prepareTossPayment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam Long quoteResponseId) {
 
         try {
@@ -50,7 +50,7 @@ public class PaymentController {
     @PostMapping("/kakao/prepare")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> prepareKakaoPayment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam Long quoteResponseId) {
 
         try {
@@ -106,7 +106,7 @@ public class PaymentController {
     @PostMapping("/{paymentId}/cancel")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> cancelPayment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long paymentId,
             @RequestParam String cancelReason) {
 
@@ -124,7 +124,7 @@ public class PaymentController {
      */
     @GetMapping("/customer/history")
     @PreAuthorize("hasRole('CUSTOMER')")
-    public ResponseEntity<?> getCustomerPaymentHistory(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getCustomerPaymentHistory(@AuthenticationPrincipal UserPrincipal user) {
         List<Payment> payments = paymentService.getCustomerPayments(user.getId());
         return ResponseEntity.ok(payments);
     }
@@ -134,7 +134,7 @@ public class PaymentController {
      */
     @GetMapping("/business/history")
     @PreAuthorize("hasRole('BUSINESS')")
-    public ResponseEntity<?> getBusinessPaymentHistory(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getBusinessPaymentHistory(@AuthenticationPrincipal UserPrincipal user) {
         List<Payment> payments = paymentService.getBusinessPayments(user.getId());
         return ResponseEntity.ok(payments);
     }
@@ -145,7 +145,7 @@ public class PaymentController {
     @GetMapping("/{paymentId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getPaymentDetails(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long paymentId) {
 
         try {
@@ -186,7 +186,7 @@ public class PaymentController {
     @PostMapping("/virtual-payment")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> processVirtualPayment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam Long quoteResponseId,
             @RequestParam String paymentMethod) {
 
@@ -1,12 +1,19 @@
 package com.teolgogo.controller;
 
-import com.teolgogo.entity.User;
+import com.teolgogo.security.UserPrincipal;
+import com.teolgogo.service.PushDispatcher;
 import com.teolgogo.service.PushNotificationService;
+import com.teolgogo.service.PushOutboxService;
+import com.teolgogo.service.PushSubscriptionHealthService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -14,10 +21,19 @@ import java.util.Map;
 public class PushNotificationController {
 
     private final PushNotificationService pushNotificationService;
+    private final PushDispatcher pushDispatcher;
+    private final PushOutboxService pushOutboxService;
+    private final PushSubscriptionHealthService pushSubscriptionHealthService;
 
     @Autowired
-    public PushNotificationController(PushNotificationService pushNotificationService) {
+    public PushNotificationController(PushNotificationService pushNotificationService,
+                                      PushDispatcher pushDispatcher,
+                                      PushOutboxService pushOutboxService,
+                                      PushSubscriptionHealthService pushSubscriptionHealthService) {
         this.pushNotificationService = pushNotificationService;
+        this.pushDispatcher = pushDispatcher;
+        this.pushOutboxService = pushOutboxService;
+        this.pushSubscriptionHealthService = pushSubscriptionHealthService;
     }
 
     /**
@@ -33,7 +49,7 @@ public class PushNotificationController {
      */
     @PostMapping("/subscribe")
     public ResponseEntity<Map<String, String>> subscribe(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestBody Map<String, Object> subscription) {
 
         pushNotificationService.saveSubscription(user.getId(), subscription);
@@ -45,7 +61,7 @@ public class PushNotificationController {
      */
     @PostMapping("/unsubscribe")
     public ResponseEntity<Map<String, String>> unsubscribe(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestBody Map<String, String> subscription) {
 
         String endpoint = subscription.get("endpoint");
@@ -53,12 +69,67 @@ public class PushNotificationController {
         return ResponseEntity.ok(Map.of("message", "푸시 알림 구독이 취소되었습니다."));
     }
 
+    /**
+     * 여러 사용자에게 같은 알림 전송 (공지 등, 관리자용)
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> sendBulkNotification(@RequestBody Map<String, Object> request) {
+        Object rawUserIds = request.get("userIds");
+        Object title = request.get("title");
+        Object body = request.get("body");
+        Object url = request.get("url");
+        if (!(rawUserIds instanceof List<?> ids) || ids.isEmpty()
+                || !(title instanceof String) || !(body instanceof String)
+                || (url != null && !(url instanceof String))) {
+            return ResponseEntity.badRequest().body(Map.of("error", "userIds, title, body는 필수입니다."));
+        }
+
+        List<Long> userIds = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            Long userId = toUserId(id);
+            if (userId == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "userIds에 잘못된 값이 있습니다: " + id));
+            }
+            userIds.add(userId);
+        }
+        return ResponseEntity.ok(pushNotificationService.sendBulkPushNotification(
+                userIds, (String) title, (String) body, (String) url));
+    }
+
+    // 사용자 ID로 쓸 수 있는 정수(숫자 또는 숫자 문자열)만 허용
+    private static Long toUserId(Object id) {
+        if (id instanceof Integer || id instanceof Long) {
+            return ((Number) id).longValue();
+        }
+        if (id instanceof String text) {
+            try {
+                return Long.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 푸시 서비스별 전송 대기열/동시 전송 현황, 발송 대기열(outbox) 상태별 건수, 격리된 구독 수 (관리자용)
+     */
+    @GetMapping("/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Map<String, Long>>> getDispatchMetrics() {
+        Map<String, Map<String, Long>> metrics = new LinkedHashMap<>(pushDispatcher.getMetrics());
+        metrics.put("OUTBOX", pushOutboxService.getMetrics());
+        metrics.put("SUBSCRIPTIONS", pushSubscriptionHealthService.getMetrics());
+        return ResponseEntity.ok(metrics);
+    }
+
     /**
      * 테스트용 푸시 알림 전송 (개발 환경에서만 사용)
      */
     @PostMapping("/test")
     public ResponseEntity<Map<String, String>> sendTestNotification(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
 
         boolean sent = pushNotificationService.sendPushNotification(
                 user.getId(),
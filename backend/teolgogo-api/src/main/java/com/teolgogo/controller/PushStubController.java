@@ -0,0 +1,36 @@
+package com.teolgogo.controller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 개발 환경에서 푸시 발송 대기열(재시도, Retry-After, DEAD 처리) 확인용 가짜 푸시 서비스
+// 구독 엔드포인트를 http://localhost:8080/api/public/push-stub/{응답 상태 코드}로 등록해서 사용
+// 예: /api/public/push-stub/503?retryAfter=30, /api/public/push-stub/410
+
+@Profile("dev")
+@RestController
+@RequestMapping("/api/public/push-stub")
+public class PushStubController {
+
+    private final AtomicLong received = new AtomicLong();
+
+    @PostMapping("/{status}")
+    public ResponseEntity<Void> receive(
+            @PathVariable int status,
+            @RequestParam(required = false) Long retryAfter) {
+
+        received.incrementAndGet();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (retryAfter != null) {
+            response.header("Retry-After", String.valueOf(retryAfter));
+        }
+        return response.header("X-Stub-Received", String.valueOf(received.get())).build();
+    }
+}
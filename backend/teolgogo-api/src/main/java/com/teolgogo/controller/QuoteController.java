@@ -4,9 +4,9 @@ import com.teolgogo.dto.CreateQuoteRequestDTO;
 import com.teolgogo.dto.QuoteRequestDTO;
 import com.teolgogo.dto.QuoteResponseDTO;
 import com.teolgogo.entity.QuoteRequest;
-import com.teolgogo.entity.User;
+import com.teolgogo.security.UserPrincipal;
 import com.teolgogo.service.QuoteService;
-import com.teolgogo.service.NotificationService;
+import com.teolgogo.service.UserSnapshotCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -27,12 +27,12 @@ import java.util.Map;
 public class QuoteController {
 
     private final QuoteService quoteService;
-    private final NotificationService notificationService;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Autowired
-    public QuoteController(QuoteService quoteService, NotificationService notificationService) {
+    public QuoteController(QuoteService quoteService, UserSnapshotCache userSnapshotCache) {
         this.quoteService = quoteService;
-        this.notificationService = notificationService;
+        this.userSnapshotCache = userSnapshotCache;
     }
 
     /**
@@ -40,15 +40,13 @@ public class QuoteController {
      */
     @PostMapping(value = "/requests", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<QuoteRequestDTO> createQuoteRequestWithPhotos(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestPart("request") @Valid CreateQuoteRequestDTO requestDTO,
             @RequestPart(value = "petPhotos", required = false) List<MultipartFile> petPhotos) {
 
-        QuoteRequestDTO createdRequest = quoteService.createQuoteRequest(user, requestDTO, petPhotos);
-
-        // 주변 업체에 푸시 알림 전송
-        notificationService.sendQuoteRequestNotification(createdRequest.getId());
-
+        // 주변 업체 알림은 커밋 이후 비동기로 전송 (NotificationEventListener)
+        QuoteRequestDTO createdRequest = quoteService.createQuoteRequest(
+                userSnapshotCache.get(user.getId()), requestDTO, petPhotos);
         return ResponseEntity.ok(createdRequest);
     }
 
@@ -80,7 +78,7 @@ public class QuoteController {
     // 견적 요청 목록 조회 (고객용)
     @GetMapping("/customer/requests")
     public ResponseEntity<List<QuoteRequestDTO>> getCustomerQuoteRequests(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
         List<QuoteRequestDTO> requests = quoteService.getCustomerQuoteRequests(user.getId());
         return ResponseEntity.ok(requests);
     }
@@ -88,7 +86,7 @@ public class QuoteController {
     // 견적 요청 목록 조회 (업체용)
     @GetMapping("/business/available")
     public ResponseEntity<List<QuoteRequestDTO>> getAvailableQuoteRequests(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam(required = false) Double latitude,
             @RequestParam(required = false) Double longitude,
             @RequestParam(required = false) Double radius) {
@@ -101,7 +99,7 @@ public class QuoteController {
     // 견적 요청 상세 조회
     @GetMapping("/requests/{requestId}")
     public ResponseEntity<Map<String, Object>> getQuoteRequestDetails(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long requestId) {
 
         Map<String, Object> response = quoteService.getQuoteRequestDetails(user.getId(), requestId);
@@ -111,30 +109,23 @@ public class QuoteController {
     // 견적 제안 생성 (업체용)
     @PostMapping("/requests/{requestId}/offers")
     public ResponseEntity<QuoteResponseDTO> createQuoteOffer(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long requestId,
             @Valid @RequestBody QuoteResponseDTO offerDTO) {
 
-        QuoteResponseDTO createdOffer = quoteService.createQuoteOffer(user, requestId, offerDTO);
-
-        // 고객에게 견적 제안 알림 전송
-        notificationService.sendQuoteOfferNotification(createdOffer.getId());
-
+        QuoteResponseDTO createdOffer = quoteService.createQuoteOffer(
+                userSnapshotCache.get(user.getId()), requestId, offerDTO);
         return ResponseEntity.ok(createdOffer);
     }
 
     // 견적 수락 (고객용)
     @PostMapping("/requests/{requestId}/offers/{offerId}/accept")
     public ResponseEntity<QuoteResponseDTO> acceptQuoteOffer(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long requestId,
             @PathVariable Long offerId) {
 
         QuoteResponseDTO acceptedOffer = quoteService.acceptQuoteOffer(user.getId(), requestId, offerId);
-
-        // 업체에게 견적 수락 알림 전송
-        notificationService.sendQuoteAcceptNotification(acceptedOffer.getId());
-
         return ResponseEntity.ok(acceptedOffer);
     }
 
@@ -144,17 +135,13 @@ public class QuoteController {
     @PostMapping(value = "/responses/{responseId}/photos", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('BUSINESS')")
     public ResponseEntity<?> uploadGroomingPhotos(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long responseId,
             @RequestPart(value = "beforePhotos", required = false) List<MultipartFile> beforePhotos,
             @RequestPart(value = "afterPhotos", required = false) List<MultipartFile> afterPhotos) {
 
         try {
             quoteService.uploadGroomingPhotos(user.getId(), responseId, beforePhotos, afterPhotos);
-
-            // 고객에게 미용 완료 알림 전송
-            notificationService.sendGroomingCompletedNotification(responseId);
-
             return ResponseEntity.ok().body(Map.of("message", "미용 사진이 성공적으로 업로드되었습니다."));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -1,7 +1,7 @@
 package com.teolgogo.controller;
 
 import com.teolgogo.entity.Review;
-import com.teolgogo.entity.User;
+import com.teolgogo.security.UserPrincipal;
 import com.teolgogo.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -36,7 +36,7 @@ public class ReviewController {
     @PostMapping
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> createReview(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam Long quoteResponseId,
             @RequestParam Integer rating,
             @RequestParam String content,
@@ -56,7 +56,7 @@ public class ReviewController {
     @PutMapping("/{reviewId}")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> updateReview(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long reviewId,
             @RequestParam Integer rating,
             @RequestParam String content,
@@ -76,7 +76,7 @@ public class ReviewController {
     @DeleteMapping("/{reviewId}")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> deleteReview(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long reviewId) {
 
         try {
@@ -118,7 +118,7 @@ public class ReviewController {
      */
     @GetMapping("/customer")
     @PreAuthorize("hasRole('CUSTOMER')")
-    public ResponseEntity<?> getCustomerReviews(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getCustomerReviews(@AuthenticationPrincipal UserPrincipal user) {
         List<Review> reviews = reviewService.getCustomerReviews(user.getId());
         return ResponseEntity.ok(reviews);
     }
@@ -200,7 +200,7 @@ public class ReviewController {
     @GetMapping("/can-review")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> canReview(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam Long quoteResponseId) {
 
         try {
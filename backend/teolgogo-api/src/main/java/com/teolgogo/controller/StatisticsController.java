@@ -2,7 +2,7 @@ package com.teolgogo.controller;
 
 import com.teolgogo.dto.BusinessStatisticsDTO;
 import com.teolgogo.dto.ServiceStatisticsDTO;
-import com.teolgogo.entity.User;
+import com.teolgogo.security.UserPrincipal;
 import com.teolgogo.service.StatisticsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -30,7 +30,7 @@ public class StatisticsController {
      */
     @GetMapping("/business")
     @PreAuthorize("hasRole('BUSINESS')")
-    public ResponseEntity<?> getBusinessStatistics(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getBusinessStatistics(@AuthenticationPrincipal UserPrincipal user) {
         try {
             BusinessStatisticsDTO statistics = statisticsService.getBusinessStatistics(user.getId());
             return ResponseEntity.ok(statistics);
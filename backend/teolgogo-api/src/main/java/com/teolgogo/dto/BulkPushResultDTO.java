@@ -0,0 +1,22 @@
+package com.teolgogo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPushResultDTO {
+    private int requestedCount;     // 요청한 사용자 수 (중복 제외)
+    private int notifiedCount;      // 발송 대기열에 넣은 사용자 수
+    private int subscriptionCount;  // 발송 대기열에 넣은 구독(기기) 수
+    private List<Long> noSubscriptionUserIds; // 구독 정보가 없는 사용자
+    private Map<Long, Integer> subscriptionsByUser; // 사용자별 발송 대기열에 넣은 구독 수
+    private String error;           // 저장 실패 시 오류 메시지
+}
@@ -20,6 +20,7 @@ public class ChatRoomDTO {
     private Long businessId;
     private String businessName;
     private LocalDateTime lastMessageTime;
+    private Long lastMessageId;
     private String lastMessageContent;
     private int unreadCount;
     private List<ChatMessageDTO> messages;
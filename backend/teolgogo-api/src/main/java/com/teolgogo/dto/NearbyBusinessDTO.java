@@ -0,0 +1,27 @@
+package com.teolgogo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyBusinessDTO {
+    private Long id;
+    private String name;
+    private String businessName;
+    private String businessDescription;
+    private String profileImage;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private Double averageRating;
+    private Integer completedServices;
+    private Set<String> specialties;
+    private Double distance; // 검색 위치로부터의 거리(km)
+}
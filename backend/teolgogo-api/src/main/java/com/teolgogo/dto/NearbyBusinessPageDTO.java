@@ -0,0 +1,18 @@
+package com.teolgogo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyBusinessPageDTO {
+    private List<NearbyBusinessDTO> content;
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -31,6 +31,7 @@ public class QuoteRequestDTO {
     private LocalDateTime createdAt;
     private List<QuoteItemDTO> items;
     private int offerCount; // 받은 견적 수
+    private Double distance; // 조회 기준 위치로부터의 거리(km), 위치 기반 조회 시에만 설정
 
     public static QuoteRequestDTO fromEntity(QuoteRequest quoteRequest) {
         return QuoteRequestDTO.builder()
@@ -0,0 +1,57 @@
+package com.teolgogo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+
+/**
+ * 업체별 통계 누적 카운터
+ * 견적 제안, 결제 완료, 리뷰 작성/수정/삭제 시점에 증감되며 통계 조회는 이 값만 읽음
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "business_stats_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_business_stats_counters", columnNames = {"business_id", "metric", "bucket"})
+})
+public class BusinessStatsCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_id", nullable = false)
+    private Long businessId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Metric metric;
+
+    // 세부 구분 값 (월, 서비스 유형, 평점, 태그, 요일, 시간대), 없으면 빈 문자열
+    @Column(nullable = false)
+    private String bucket;
+
+    @Column(name = "counter_value", nullable = false)
+    private Long value;
+
+    public enum Metric {
+        INITIALIZED, // 기존 데이터 집계 완료 표시
+        OFFERS, // 제안한 견적 수
+        ACCEPTED_OFFERS, // 수락된 견적 수
+        COMPLETED_PAYMENTS, // 결제 완료 건수
+        REVENUE, // 총 매출액
+        REVENUE_BY_MONTH, // 월별 매출
+        REVENUE_BY_SERVICE, // 서비스 유형별 매출
+        REVIEWS, // 리뷰 수
+        RATING_SUM, // 평점 합계
+        RATING_DISTRIBUTION, // 평점 분포
+        TAGS, // 태그별 리뷰 수
+        REQUESTS_BY_DAY, // 요일별 요청 수
+        REQUESTS_BY_HOUR // 시간대별 요청 수
+    }
+}
@@ -13,9 +13,14 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_room_id", columnList = "chat_room_id, id")
+})
 public class ChatMessage {
 
+    // 일괄 저장 사용 시 모든 저장 경로가 함께 쓰는 ID 시퀀스 (ChatMessageIdAllocator 참고)
+    public static final String ID_SEQUENCE = "chat_messages_seq";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
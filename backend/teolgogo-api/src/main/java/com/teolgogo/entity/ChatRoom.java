@@ -15,7 +15,10 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", indexes = {
+        @Index(name = "idx_chat_rooms_customer_activity", columnList = "customer_id, last_activity_at"),
+        @Index(name = "idx_chat_rooms_business_activity", columnList = "business_id, last_activity_at")
+})
 public class ChatRoom {
 
     @Id
@@ -40,6 +43,23 @@ public class ChatRoom {
     private LocalDateTime createdAt;
     private LocalDateTime lastActivityAt;
 
+    // 마지막 메시지 요약 (목록 조회 시 메시지 테이블을 읽지 않도록 유지)
+    private Long lastMessageId;
+
+    @Column(length = 255)
+    private String lastMessagePreview;
+
+    // 참여자별 안 읽은 메시지 수
+    @Column(nullable = false)
+    private int customerUnreadCount;
+
+    @Column(nullable = false)
+    private int businessUnreadCount;
+
+    // 참여자별 읽음 위치 (이 ID 이하의 상대방 메시지는 모두 읽음)
+    private Long customerLastReadMessageId;
+    private Long businessLastReadMessageId;
+
     @Builder.Default
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatMessage> messages = new ArrayList<>();
@@ -54,4 +74,14 @@ public class ChatRoom {
     public void updateLastActivity() {
         lastActivityAt = LocalDateTime.now();
     }
+
+    // 목록 미리보기용 메시지 내용
+    public static String preview(String content) {
+        if (content == null) {
+            return null;
+        }
+        return content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content;
+    }
+
+    public static final int PREVIEW_LENGTH = 100;
 }
\ No newline at end of file
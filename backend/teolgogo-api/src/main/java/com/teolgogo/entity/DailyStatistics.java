@@ -0,0 +1,53 @@
+package com.teolgogo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 일 단위 플랫폼 통계 집계
+ * 지난 날짜만 저장되며, 기간별 통계는 해당 기간의 일별 집계를 합산해서 계산
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "daily_statistics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_statistics_stat_date", columnNames = "stat_date")
+})
+public class DailyStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // 견적 요청 수
+    private long totalRequests;
+
+    // 서비스 유형별 견적 요청 수
+    @ElementCollection
+    @CollectionTable(name = "daily_statistics_service_types", joinColumns = @JoinColumn(name = "daily_statistics_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "service_type")
+    @Column(name = "request_count")
+    @Builder.Default
+    private Map<QuoteRequest.ServiceType, Long> requestsByServiceType = new EnumMap<>(QuoteRequest.ServiceType.class);
+
+    // 결제 완료 건수 및 매출
+    private long completedPayments;
+    private long revenue;
+
+    // 리뷰 수 및 평점 합계
+    private long totalReviews;
+    private long ratingSum;
+}
@@ -0,0 +1,42 @@
+package com.teolgogo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 기준(SHA-256) 저장 파일
+ * 같은 내용의 업로드는 FileEntity만 새로 만들고 이 파일을 함께 참조
+ * 참조하는 FileEntity 수를 세어 마지막 참조가 삭제될 때 실제 파일 삭제
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "file_blobs")
+public class FileBlob {
+
+    // 파일 내용 SHA-256 (16진수)
+    @Id
+    @Column(length = 64)
+    private String checksum;
+
+    // 업로드 디렉토리 기준 경로 (blobs/ab/cd/<checksum>)
+    @Column(name = "blob_path", nullable = false)
+    private String blobPath;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    // 이 파일을 참조하는 FileEntity 수
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -32,6 +32,9 @@ public class FileEntity {
 
     private Long fileSize; // 파일 크기 (바이트)
 
+    @Column(length = 64)
+    private String checksum; // 파일 내용 SHA-256 (16진수)
+
     @Enumerated(EnumType.STRING)
     private FileCategory category; // 파일 카테고리
 
@@ -0,0 +1,82 @@
+package com.teolgogo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 알림 발송 대기열
+ * 구독 정보가 삭제되어도 재시도할 수 있도록 엔드포인트와 키를 함께 저장
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "push_outbox", indexes = {
+        @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class PushOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id")
+    private Long subscriptionId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String endpoint;
+
+    @Column(name = "p256dh_key", nullable = false)
+    private String p256dhKey;
+
+    @Column(name = "auth_key", nullable = false)
+    private String authKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    // 발송 시도 횟수 (가져갈 때 증가)
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 발송 가능 시각, SENDING: 점유 만료 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+        if (status == null) {
+            status = Status.PENDING;
+        }
+    }
+
+    public enum Status {
+        PENDING,  // 발송 대기
+        SENDING,  // 작업자가 점유해 발송 중
+        SENT,     // 발송 완료
+        DEAD      // 재시도 한도 초과 또는 영구 실패
+    }
+}
@@ -36,6 +36,18 @@ public class PushSubscription {
     @Column(name = "expiration_time")
     private Long expirationTime;
 
+    // 마지막 발송 성공 시각
+    @Column(name = "last_success_at")
+    private LocalDateTime lastSuccessAt;
+
+    // 연속 발송 실패 횟수 (성공하면 0)
+    @Column(name = "consecutive_failures", nullable = false)
+    private int consecutiveFailures;
+
+    // 격리 해제 시각 (이 시각 전에는 발송 대상에서 제외)
+    @Column(name = "quarantined_until")
+    private LocalDateTime quarantinedUntil;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
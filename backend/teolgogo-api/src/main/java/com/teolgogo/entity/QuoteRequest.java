@@ -15,7 +15,11 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "quote_requests")
+@Table(name = "quote_requests", indexes = {
+        @Index(name = "idx_quote_requests_status_location", columnList = "status, latitude, longitude"),
+        @Index(name = "idx_quote_requests_location", columnList = "latitude, longitude"),
+        @Index(name = "idx_quote_requests_created_at", columnList = "created_at")
+})
 public class QuoteRequest {
 
     @Id
@@ -0,0 +1,64 @@
+package com.teolgogo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 계열 (로그인 한 번에 하나)
+ * 갱신할 때마다 새 토큰을 발급하고 현재 토큰 ID만 유효하게 유지
+ * 이미 사용된 토큰이 다시 들어오면 탈취로 보고 계열 전체를 폐기
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "refresh_token_families", indexes = {
+        @Index(name = "idx_refresh_family_user", columnList = "user_id"),
+        @Index(name = "idx_refresh_family_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_refresh_family_expires_at", columnList = "expires_at")
+})
+public class RefreshTokenFamily {
+
+    // 계열 ID (토큰의 fam 클레임)
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 현재 유효한 리프레시 토큰 ID (토큰의 jti 클레임)
+    @Column(name = "current_token_id", nullable = false, length = 36)
+    private String currentTokenId;
+
+    // 직전 토큰 ID (동시 갱신 요청 허용 시간 판단용)
+    @Column(name = "previous_token_id", length = 36)
+    private String previousTokenId;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    // 현재 리프레시 토큰 만료 시각 (갱신할 때마다 연장)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "revoke_reason", length = 20)
+    private String revokeReason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -19,7 +19,9 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_location", columnList = "role, latitude, longitude")
+})
 public class User implements UserDetails {
 
     @Id
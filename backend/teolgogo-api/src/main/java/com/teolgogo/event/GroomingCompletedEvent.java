@@ -0,0 +1,13 @@
+package com.teolgogo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미용 완료 (미용 사진 업로드) 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class GroomingCompletedEvent {
+    private final Long responseId;
+}
@@ -0,0 +1,13 @@
+package com.teolgogo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 견적 제안 수락 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class OfferAcceptedEvent {
+    private final Long offerId;
+}
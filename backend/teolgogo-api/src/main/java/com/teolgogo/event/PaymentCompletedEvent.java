@@ -0,0 +1,13 @@
+package com.teolgogo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 완료 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentCompletedEvent {
+    private final Long paymentId;
+}
@@ -0,0 +1,13 @@
+package com.teolgogo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 견적 요청 생성 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class QuoteRequestCreatedEvent {
+    private final Long requestId;
+}
@@ -0,0 +1,16 @@
+package com.teolgogo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 작성 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewCreatedEvent {
+    private final Long reviewId;
+    private final Long businessId;
+    private final String customerName;
+    private final Integer rating;
+}
@@ -0,0 +1,47 @@
+package com.teolgogo.repository;
+
+import com.teolgogo.entity.BusinessStatsCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BusinessStatsCounterRepository extends JpaRepository<BusinessStatsCounter, Long> {
+
+    // 업체의 모든 카운터 조회
+    List<BusinessStatsCounter> findByBusinessId(Long businessId);
+
+    // 특정 카운터 존재 여부
+    boolean existsByBusinessIdAndMetric(Long businessId, BusinessStatsCounter.Metric metric);
+
+    // 카운터 증감 (없으면 생성)
+    @Modifying
+    @Query(value =
+            "INSERT INTO business_stats_counters (business_id, metric, bucket, counter_value) " +
+                    "VALUES (:businessId, :#{#metric.name()}, :bucket, :delta) " +
+                    "ON DUPLICATE KEY UPDATE counter_value = counter_value + :delta",
+            nativeQuery = true)
+    void increment(
+            @Param("businessId") Long businessId,
+            @Param("metric") BusinessStatsCounter.Metric metric,
+            @Param("bucket") String bucket,
+            @Param("delta") long delta);
+
+    // 집계 완료 표시 생성 (이미 있으면 0 반환)
+    @Modifying
+    @Query(value =
+            "INSERT IGNORE INTO business_stats_counters (business_id, metric, bucket, counter_value) " +
+                    "VALUES (:businessId, 'INITIALIZED', '', 1)",
+            nativeQuery = true)
+    int insertInitializedMarker(@Param("businessId") Long businessId);
+
+    // 집계 완료 표시를 제외한 업체의 카운터 삭제
+    @Modifying
+    @Query("DELETE FROM BusinessStatsCounter c WHERE c.businessId = :businessId " +
+            "AND c.metric <> com.teolgogo.entity.BusinessStatsCounter.Metric.INITIALIZED")
+    void deleteCountersByBusinessId(@Param("businessId") Long businessId);
+}
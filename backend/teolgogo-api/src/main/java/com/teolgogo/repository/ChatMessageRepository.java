@@ -1,16 +1,58 @@
 package com.teolgogo.repository;
 
 import com.teolgogo.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    List<ChatMessage> findByChatRoomIdOrderByTimestampAsc(Long roomId);
+    // 채팅방의 최신 메시지 페이지 (ID 내림차순)
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.chatRoom.id = :roomId ORDER BY m.id DESC")
+    List<ChatMessage> findLatestByChatRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    // 특정 메시지 이전의 메시지 페이지 (ID 내림차순)
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender " +
+            "WHERE m.chatRoom.id = :roomId AND m.id < :beforeId ORDER BY m.id DESC")
+    List<ChatMessage> findByChatRoomIdBefore(
+            @Param("roomId") Long roomId,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    // 채팅방에 속한 메시지만 골라 (메시지 ID, 보낸 사람 ID) 조회
+    @Query("SELECT m.id, m.sender.id FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id IN :ids")
+    List<Object[]> findIdAndSenderByChatRoomIdAndIdIn(
+            @Param("roomId") Long roomId,
+            @Param("ids") Collection<Long> ids);
+
+    // 특정 보낸 사람의 메시지를 기준 ID까지 한 번에 읽음 처리
+    @Modifying
+    @Query("UPDATE ChatMessage m SET m.isRead = true " +
+            "WHERE m.chatRoom.id = :roomId AND m.sender.id = :senderId AND m.id <= :upToId AND m.isRead = false")
+    int markReadUpTo(
+            @Param("roomId") Long roomId,
+            @Param("senderId") Long senderId,
+            @Param("upToId") Long upToId);
+
+    // 미리 할당한 ID로 메시지 저장 (일괄 저장 사용 시 동기 저장 경로에서 사용)
+    @Modifying
+    @Query(value = "INSERT INTO chat_messages (id, chat_room_id, sender_id, content, is_read, `timestamp`) " +
+            "VALUES (:id, :roomId, :senderId, :content, :isRead, :timestamp)", nativeQuery = true)
+    int insertWithId(
+            @Param("id") Long id,
+            @Param("roomId") Long roomId,
+            @Param("senderId") Long senderId,
+            @Param("content") String content,
+            @Param("isRead") boolean isRead,
+            @Param("timestamp") LocalDateTime timestamp);
 
     List<ChatMessage> findByChatRoomIdAndSenderIdNotAndIsReadFalse(Long chatRoomId, Long senderId);
 
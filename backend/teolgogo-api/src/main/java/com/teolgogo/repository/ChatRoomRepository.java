@@ -2,9 +2,12 @@ package com.teolgogo.repository;
 
 import com.teolgogo.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,83 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT cr FROM ChatRoom cr WHERE cr.business.id = ?1 ORDER BY cr.createdAt DESC")
     List<ChatRoom> findByBusinessId(Long businessId);
 
+    // 채팅방 목록 요약 (방 ID, 견적 요청 ID, 고객 ID, 고객 이름, 업체 ID, 업체 이름,
+    // 마지막 활동 시간, 마지막 메시지 ID, 마지막 메시지 미리보기, 조회 사용자의 안 읽은 메시지 수)
+    @Query("SELECT cr.id, cr.quoteRequest.id, c.id, c.name, b.id, b.name, " +
+            "cr.lastActivityAt, cr.lastMessageId, cr.lastMessagePreview, " +
+            "CASE WHEN c.id = :userId THEN cr.customerUnreadCount ELSE cr.businessUnreadCount END " +
+            "FROM ChatRoom cr JOIN cr.customer c JOIN cr.business b " +
+            "WHERE c.id = :userId OR b.id = :userId " +
+            "ORDER BY cr.lastActivityAt DESC")
+    List<Object[]> findSummariesByParticipantId(@Param("userId") Long userId);
+
+    // 채팅방 참여자 (고객 ID, 고객 이름, 업체 ID, 업체 이름)
+    @Query("SELECT c.id, c.name, b.id, b.name FROM ChatRoom cr JOIN cr.customer c JOIN cr.business b " +
+            "WHERE cr.id = :roomId")
+    List<Object[]> findParticipantsById(@Param("roomId") Long roomId);
+
+    // 새 메시지 반영 (마지막 메시지 요약 갱신, 수신자의 안 읽은 메시지 수 증가)
+    // MariaDB는 SET 절을 왼쪽부터 적용하므로 lastMessageId는 마지막에 갱신
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET " +
+            "cr.lastMessagePreview = CASE WHEN cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId " +
+            "THEN :preview ELSE cr.lastMessagePreview END, " +
+            "cr.lastActivityAt = CASE WHEN cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId " +
+            "THEN :sentAt ELSE cr.lastActivityAt END, " +
+            "cr.lastMessageId = CASE WHEN cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId " +
+            "THEN :messageId ELSE cr.lastMessageId END, " +
+            "cr.customerUnreadCount = cr.customerUnreadCount + :customerUnread, " +
+            "cr.businessUnreadCount = cr.businessUnreadCount + :businessUnread " +
+            "WHERE cr.id = :roomId")
+    int applyNewMessage(
+            @Param("roomId") Long roomId,
+            @Param("messageId") Long messageId,
+            @Param("preview") String preview,
+            @Param("sentAt") LocalDateTime sentAt,
+            @Param("customerUnread") int customerUnread,
+            @Param("businessUnread") int businessUnread);
+
+    // 읽음 처리 반영 (참여자별 읽음 위치 전진, 안 읽은 메시지 수 감소)
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET " +
+            "cr.customerLastReadMessageId = CASE WHEN :customerReadUpTo > COALESCE(cr.customerLastReadMessageId, 0) " +
+            "THEN :customerReadUpTo ELSE cr.customerLastReadMessageId END, " +
+            "cr.businessLastReadMessageId = CASE WHEN :businessReadUpTo > COALESCE(cr.businessLastReadMessageId, 0) " +
+            "THEN :businessReadUpTo ELSE cr.businessLastReadMessageId END, " +
+            "cr.customerUnreadCount = CASE WHEN cr.customerUnreadCount > :customerRead " +
+            "THEN cr.customerUnreadCount - :customerRead ELSE 0 END, " +
+            "cr.businessUnreadCount = CASE WHEN cr.businessUnreadCount > :businessRead " +
+            "THEN cr.businessUnreadCount - :businessRead ELSE 0 END " +
+            "WHERE cr.id = :roomId")
+    int applyRead(
+            @Param("roomId") Long roomId,
+            @Param("customerReadUpTo") long customerReadUpTo,
+            @Param("businessReadUpTo") long businessReadUpTo,
+            @Param("customerRead") int customerRead,
+            @Param("businessRead") int businessRead);
+
+    // 요약 정보가 없는 기존 채팅방 채우기 (마지막 메시지 ID, 안 읽은 메시지 수)
+    @Modifying
+    @Query(value =
+            "UPDATE chat_rooms r SET " +
+                    "r.last_message_id = (SELECT MAX(m.id) FROM chat_messages m WHERE m.chat_room_id = r.id), " +
+                    "r.customer_unread_count = (SELECT COUNT(*) FROM chat_messages m " +
+                    "WHERE m.chat_room_id = r.id AND m.sender_id <> r.customer_id AND m.is_read = false), " +
+                    "r.business_unread_count = (SELECT COUNT(*) FROM chat_messages m " +
+                    "WHERE m.chat_room_id = r.id AND m.sender_id <> r.business_id AND m.is_read = false) " +
+                    "WHERE r.last_message_id IS NULL",
+            nativeQuery = true)
+    int backfillSummaries();
+
+    // 요약 정보가 없는 기존 채팅방 채우기 (마지막 메시지 미리보기)
+    @Modifying
+    @Query(value =
+            "UPDATE chat_rooms r JOIN chat_messages m ON m.id = r.last_message_id " +
+                    "SET r.last_message_preview = LEFT(m.content, " + ChatRoom.PREVIEW_LENGTH + ") " +
+                    "WHERE r.last_message_preview IS NULL",
+            nativeQuery = true)
+    int backfillPreviews();
+
     @Query("SELECT cr FROM ChatRoom cr WHERE cr.quoteRequest.id = ?1")
     Optional<ChatRoom> findByQuoteRequestId(Long quoteRequestId);
 
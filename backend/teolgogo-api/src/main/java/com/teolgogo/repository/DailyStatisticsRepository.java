@@ -0,0 +1,47 @@
+package com.teolgogo.repository;
+
+import com.teolgogo.entity.DailyStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics, Long> {
+
+    // 기간 내 일별 집계 조회 (서비스 유형별 요청 수 함께 로드)
+    @Query("SELECT DISTINCT d FROM DailyStatistics d LEFT JOIN FETCH d.requestsByServiceType " +
+            "WHERE d.statDate BETWEEN :from AND :to")
+    List<DailyStatistics> findWithServiceTypesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 집계 행이 없으면 빈 행 생성 (다시 집계하기 전에 행 잠금을 잡기 위해 사용)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_statistics " +
+            "(stat_date, total_requests, completed_payments, revenue, total_reviews, rating_sum) " +
+            "VALUES (:date, 0, 0, 0, 0, 0)", nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("date") LocalDate date);
+
+    // 날짜의 일별 집계를 잠금과 함께 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DailyStatistics d WHERE d.statDate = :date")
+    Optional<DailyStatistics> findForUpdate(@Param("date") LocalDate date);
+
+    // 결제 완료 건수/매출 보정
+    @Modifying
+    @Query("UPDATE DailyStatistics d SET d.completedPayments = d.completedPayments + :count, " +
+            "d.revenue = d.revenue + :amount WHERE d.statDate = :date")
+    int addPayments(@Param("date") LocalDate date, @Param("count") long count, @Param("amount") long amount);
+
+    // 리뷰 수/평점 합계 보정
+    @Modifying
+    @Query("UPDATE DailyStatistics d SET d.totalReviews = d.totalReviews + :count, " +
+            "d.ratingSum = d.ratingSum + :ratingSum WHERE d.statDate = :date")
+    int addReviews(@Param("date") LocalDate date, @Param("count") long count, @Param("ratingSum") long ratingSum);
+}
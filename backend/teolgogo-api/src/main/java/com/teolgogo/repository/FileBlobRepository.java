@@ -0,0 +1,38 @@
+package com.teolgogo.repository;
+
+import com.teolgogo.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    /**
+     * 참조 추가 (없으면 참조 수 1로 생성)
+     * 행 잠금이 트랜잭션 끝까지 유지되므로 같은 내용의 업로드/삭제는 순서대로 처리됨
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blobs (checksum, blob_path, file_size, ref_count, created_at) " +
+            "VALUES (:checksum, :blobPath, :fileSize, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int acquire(@Param("checksum") String checksum,
+                @Param("blobPath") String blobPath,
+                @Param("fileSize") long fileSize);
+
+    /**
+     * 참조 제거 (행 잠금)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 WHERE b.checksum = :checksum")
+    int release(@Param("checksum") String checksum);
+
+    @Query("SELECT b.refCount FROM FileBlob b WHERE b.checksum = :checksum")
+    Integer findRefCount(@Param("checksum") String checksum);
+
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.checksum = :checksum")
+    int deleteByChecksum(@Param("checksum") String checksum);
+}
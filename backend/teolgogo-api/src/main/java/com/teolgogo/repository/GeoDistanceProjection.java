@@ -0,0 +1,12 @@
+package com.teolgogo.repository;
+
+/**
+ * 반경 검색 결과 (엔티티 ID와 기준 좌표로부터의 거리)
+ */
+public interface GeoDistanceProjection {
+
+    Long getId();
+
+    // 거리 (km)
+    Double getDistance();
+}
@@ -2,6 +2,8 @@ package com.teolgogo.repository;
 
 import com.teolgogo.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -35,6 +37,22 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     // 특정 기간 내 결제 내역 조회
     List<Payment> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    // 업체별 특정 상태 결제의 금액, 결제 시간, 서비스 유형 조회 (통계 집계용)
+    @Query("SELECT p.amount, p.paidAt, q.serviceType FROM Payment p " +
+            "JOIN p.quoteResponse r JOIN r.quoteRequest q " +
+            "WHERE p.business.id = :businessId AND p.status = :status")
+    List<Object[]> findRevenueRowsByBusinessIdAndStatus(
+            @Param("businessId") Long businessId,
+            @Param("status") Payment.PaymentStatus status);
+
+    // 기간 내 일별 결제 완료 건수와 매출 (날짜, 건수, 매출)
+    @Query(value =
+            "SELECT DATE(p.created_at), COUNT(*), COALESCE(SUM(p.amount), 0) FROM payments p " +
+                    "WHERE p.status = 'DONE' AND p.created_at >= :start AND p.created_at < :end " +
+                    "GROUP BY DATE(p.created_at)",
+            nativeQuery = true)
+    List<Object[]> sumCompletedGroupByDate(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     // 특정 금액 이상 결제 내역 조회
     List<Payment> findByAmountGreaterThanEqual(Integer amount);
 }
\ No newline at end of file
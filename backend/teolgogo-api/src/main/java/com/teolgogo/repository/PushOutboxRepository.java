@@ -0,0 +1,63 @@
+package com.teolgogo.repository;
+
+import com.teolgogo.entity.PushOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    /**
+     * 발송할 항목 점유 (다른 서버가 잠근 행은 건너뜀)
+     * 점유 만료 시각이 지난 SENDING 항목(발송 중 서버 종료 등)도 다시 가져감
+     */
+    @Query(value = "SELECT * FROM push_outbox " +
+            "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PushOutbox> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 발송 결과 반영 (점유 후 다른 서버가 다시 가져간 항목은 시도 횟수가 달라 갱신되지 않음)
+     */
+    @Modifying
+    @Query("UPDATE PushOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :lastError, o.sentAt = :sentAt " +
+            "WHERE o.id = :id AND o.attempts = :attempts AND o.status = com.teolgogo.entity.PushOutbox.Status.SENDING")
+    int updateResult(
+            @Param("id") Long id,
+            @Param("attempts") int attempts,
+            @Param("status") PushOutbox.Status status,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError,
+            @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 발송하지 못한 점유 항목 되돌림 (시도 횟수에 포함하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE PushOutbox o SET o.status = com.teolgogo.entity.PushOutbox.Status.PENDING, " +
+            "o.attempts = o.attempts - 1, o.nextAttemptAt = :nextAttemptAt " +
+            "WHERE o.id = :id AND o.attempts = :attempts AND o.status = com.teolgogo.entity.PushOutbox.Status.SENDING")
+    int release(
+            @Param("id") Long id,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    long countByStatus(PushOutbox.Status status);
+
+    /**
+     * 보관 기간이 지난 발송 완료 항목 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM push_outbox WHERE status = 'SENT' AND sent_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -2,11 +2,15 @@ package com.teolgogo.repository;
 
 import com.teolgogo.entity.PushSubscription;
 import com.teolgogo.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,23 @@ public interface PushSubscriptionRepository extends JpaRepository<PushSubscripti
      */
     List<PushSubscription> findByUserId(Long userId);
 
+    /**
+     * 사용자 ID로 발송 가능한(격리되지 않은) 구독 정보 찾기
+     */
+    @Query("SELECT ps FROM PushSubscription ps WHERE ps.user.id = :userId " +
+            "AND (ps.quarantinedUntil IS NULL OR ps.quarantinedUntil <= :now)")
+    List<PushSubscription> findActiveByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 사용자의 발송 가능한(격리되지 않은) 구독 정보 한 번에 찾기
+     * (사용자 ID, 구독 ID, 엔드포인트, p256dh 키, 인증 키)
+     */
+    @Query("SELECT ps.user.id, ps.id, ps.endpoint, ps.p256dhKey, ps.authKey " +
+            "FROM PushSubscription ps WHERE ps.user.id IN :userIds " +
+            "AND (ps.quarantinedUntil IS NULL OR ps.quarantinedUntil <= :now)")
+    List<Object[]> findSubscriptionsByUserIds(
+            @Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now);
+
     /**
      * 사용자 ID와 엔드포인트로 구독 정보 찾기
      */
@@ -35,20 +56,75 @@ public interface PushSubscriptionRepository extends JpaRepository<PushSubscripti
     List<PushSubscription> findByUserRole(@Param("role") User.Role role);
 
     /**
-     * 특정 위치 반경 내의 업체 사용자 구독 정보 찾기
-     */
-    @Query(value = "SELECT ps.* FROM push_subscriptions ps " +
-            "JOIN users u ON ps.user_id = u.id " +
-            "WHERE u.role = 'BUSINESS' " +
-            "AND u.notification_enabled = true " +
-            "AND ST_Distance_Sphere(" +
-            "    point(u.longitude, u.latitude), " +
-            "    point(:longitude, :latitude)" +
-            ") <= :radius * 1000", nativeQuery = true)
-    List<PushSubscription> findNearbyBusinessSubscriptions(
-            @Param("latitude") Double latitude,
-            @Param("longitude") Double longitude,
-            @Param("radius") Double radius);
+     * 알림을 받는, 위치가 등록된 사용자의 구독 정보 찾기
+     * (구독 ID, 엔드포인트, p256dh 키, 인증 키, 사용자 ID, 위도, 경도, 격리 해제 시각)
+     */
+    @Query("SELECT ps.id, ps.endpoint, ps.p256dhKey, ps.authKey, u.id, u.latitude, u.longitude, ps.quarantinedUntil " +
+            "FROM PushSubscription ps JOIN ps.user u " +
+            "WHERE u.role = :role AND u.notificationEnabled = true " +
+            "AND u.latitude IS NOT NULL AND u.longitude IS NOT NULL")
+    List<Object[]> findNotifiableLocatedSubscriptions(@Param("role") User.Role role);
+
+    /**
+     * 경계 상자 안에 있는, 알림을 받는 사용자의 구독 정보 찾기 (컬럼 순서는 findNotifiableLocatedSubscriptions와 동일)
+     */
+    @Query("SELECT ps.id, ps.endpoint, ps.p256dhKey, ps.authKey, u.id, u.latitude, u.longitude, ps.quarantinedUntil " +
+            "FROM PushSubscription ps JOIN ps.user u " +
+            "WHERE u.role = :role AND u.notificationEnabled = true " +
+            "AND u.latitude BETWEEN :minLatitude AND :maxLatitude " +
+            "AND u.longitude BETWEEN :minLongitude AND :maxLongitude")
+    List<Object[]> findNotifiableSubscriptionsWithinBox(
+            @Param("role") User.Role role,
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude);
+
+    /**
+     * 발송 성공 반영 (실패 기록이 있거나 마지막 성공 시각이 오래된 경우에만 갱신)
+     */
+    @Modifying
+    @Query("UPDATE PushSubscription ps SET ps.lastSuccessAt = :now, ps.consecutiveFailures = 0, " +
+            "ps.quarantinedUntil = NULL " +
+            "WHERE ps.id = :id AND (ps.consecutiveFailures > 0 OR ps.lastSuccessAt IS NULL " +
+            "OR ps.lastSuccessAt < :staleBefore)")
+    int recordSuccess(
+            @Param("id") Long id,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 발송 실패 반영
+     */
+    @Modifying
+    @Query("UPDATE PushSubscription ps SET ps.consecutiveFailures = ps.consecutiveFailures + 1 WHERE ps.id = :id")
+    int recordFailure(@Param("id") Long id);
+
+    /**
+     * 연속 실패 횟수가 기준 이상이면 격리
+     */
+    @Modifying
+    @Query("UPDATE PushSubscription ps SET ps.quarantinedUntil = :until " +
+            "WHERE ps.id = :id AND ps.consecutiveFailures >= :threshold")
+    int quarantineIfFailing(
+            @Param("id") Long id,
+            @Param("threshold") int threshold,
+            @Param("until") LocalDateTime until);
+
+    /**
+     * 정리 대상 구독 찾기 (구독 ID, 사용자 ID)
+     * 만료 시각이 지났거나, 연속 실패가 한도를 넘은 채로 오랫동안 성공한 적이 없는 구독
+     */
+    @Query("SELECT ps.id, ps.user.id FROM PushSubscription ps " +
+            "WHERE (ps.expirationTime IS NOT NULL AND ps.expirationTime < :nowMillis) " +
+            "OR (ps.consecutiveFailures >= :maxFailures AND COALESCE(ps.lastSuccessAt, ps.createdAt) < :staleBefore)")
+    List<Object[]> findPrunable(
+            @Param("nowMillis") long nowMillis,
+            @Param("maxFailures") int maxFailures,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            Pageable pageable);
+
+    long countByQuarantinedUntilAfter(LocalDateTime now);
 
     /**
      * 사용자 ID로 구독 정보 삭제
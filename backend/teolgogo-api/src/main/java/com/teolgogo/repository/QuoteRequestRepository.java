@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,20 +18,34 @@ public interface QuoteRequestRepository extends JpaRepository<QuoteRequest, Long
     // 상태별 견적 요청 목록 조회
     List<QuoteRequest> findByStatus(QuoteRequest.RequestStatus status);
 
-    // 상태 및 위치 기반 견적 요청 필터링 (반경 내 검색)
+    // 상태 및 위치 기반 견적 요청 필터링 (경계 상자로 후보를 좁힌 뒤 반경 확인, 거리는 한 번만 계산)
     @Query(value =
-            "SELECT qr.* FROM quote_requests qr " +
-                    "WHERE qr.status = :status " +
-                    "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(qr.latitude)) * " +
+            "SELECT d.id AS id, d.distance AS distance FROM (" +
+                    "SELECT qr.id, qr.created_at, " +
+                    "(6371 * acos(LEAST(1, cos(radians(:latitude)) * cos(radians(qr.latitude)) * " +
                     "cos(radians(qr.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-                    "sin(radians(qr.latitude)))) <= :radius " +
-                    "ORDER BY qr.created_at DESC",
+                    "sin(radians(qr.latitude))))) AS distance " +
+                    "FROM quote_requests qr " +
+                    "WHERE qr.status = :#{#status.name()} " +
+                    "AND qr.latitude BETWEEN :minLatitude AND :maxLatitude " +
+                    "AND qr.longitude BETWEEN :minLongitude AND :maxLongitude" +
+                    ") d WHERE d.distance <= :radius " +
+                    "ORDER BY d.created_at DESC",
             nativeQuery = true)
-    List<QuoteRequest> findByStatusAndLocation(
+    List<GeoDistanceProjection> findDistancesByStatusWithinBox(
             @Param("status") QuoteRequest.RequestStatus status,
             @Param("latitude") Double latitude,
             @Param("longitude") Double longitude,
-            @Param("radius") Double radius);
+            @Param("radius") Double radius,
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude);
+
+    // 위치 인덱스 적재용 (ID, 위도, 경도, 상태, 생성일시)
+    @Query("SELECT qr.id, qr.latitude, qr.longitude, qr.status, qr.createdAt FROM QuoteRequest qr " +
+            "WHERE qr.status IN :statuses AND qr.latitude IS NOT NULL AND qr.longitude IS NOT NULL")
+    List<Object[]> findLocationsByStatusIn(@Param("statuses") Collection<QuoteRequest.RequestStatus> statuses);
 
     // 고객 ID와 상태로 견적 요청 목록 조회
     List<QuoteRequest> findByCustomerIdAndStatus(Long customerId, QuoteRequest.RequestStatus status);
@@ -41,20 +56,52 @@ public interface QuoteRequestRepository extends JpaRepository<QuoteRequest, Long
     // 서비스 유형별 견적 요청 조회
     List<QuoteRequest> findByServiceType(QuoteRequest.ServiceType serviceType);
 
+    // 서비스 유형별 요청 수 (서비스 유형, 요청 수)
+    @Query("SELECT qr.serviceType, COUNT(qr) FROM QuoteRequest qr GROUP BY qr.serviceType")
+    List<Object[]> countGroupByServiceType();
+
+    // 반려동물 유형별 요청 수 (반려동물 유형, 요청 수)
+    @Query("SELECT qr.petType, COUNT(qr) FROM QuoteRequest qr GROUP BY qr.petType")
+    List<Object[]> countGroupByPetType();
+
+    // 월별 요청 수 (연, 월, 요청 수)
+    @Query("SELECT YEAR(qr.createdAt), MONTH(qr.createdAt), COUNT(qr) FROM QuoteRequest qr " +
+            "WHERE qr.createdAt IS NOT NULL GROUP BY YEAR(qr.createdAt), MONTH(qr.createdAt)")
+    List<Object[]> countGroupByMonth();
+
+    // 기간 내 일별/서비스 유형별 요청 수 (날짜, 서비스 유형, 요청 수)
+    @Query(value =
+            "SELECT DATE(qr.created_at), qr.service_type, COUNT(*) FROM quote_requests qr " +
+                    "WHERE qr.created_at >= :start AND qr.created_at < :end " +
+                    "GROUP BY DATE(qr.created_at), qr.service_type",
+            nativeQuery = true)
+    List<Object[]> countGroupByDateAndServiceType(
+            @Param("start") java.time.LocalDateTime start,
+            @Param("end") java.time.LocalDateTime end);
+
     // 특정 날짜 이후의 견적 요청 조회
     @Query("SELECT qr FROM QuoteRequest qr WHERE qr.createdAt >= :date")
     List<QuoteRequest> findRequestsAfterDate(@Param("date") java.time.LocalDateTime date);
 
     // 지정된 반경 내의 모든 견적 요청 조회 (상태 무관)
     @Query(value =
-            "SELECT qr.* FROM quote_requests qr " +
-                    "WHERE (6371 * acos(cos(radians(:latitude)) * cos(radians(qr.latitude)) * " +
+            "SELECT d.id AS id, d.distance AS distance FROM (" +
+                    "SELECT qr.id, qr.created_at, " +
+                    "(6371 * acos(LEAST(1, cos(radians(:latitude)) * cos(radians(qr.latitude)) * " +
                     "cos(radians(qr.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-                    "sin(radians(qr.latitude)))) <= :radius " +
-                    "ORDER BY qr.created_at DESC",
+                    "sin(radians(qr.latitude))))) AS distance " +
+                    "FROM quote_requests qr " +
+                    "WHERE qr.latitude BETWEEN :minLatitude AND :maxLatitude " +
+                    "AND qr.longitude BETWEEN :minLongitude AND :maxLongitude" +
+                    ") d WHERE d.distance <= :radius " +
+                    "ORDER BY d.created_at DESC",
             nativeQuery = true)
-    List<QuoteRequest> findAllByLocation(
+    List<GeoDistanceProjection> findDistancesWithinBox(
             @Param("latitude") Double latitude,
             @Param("longitude") Double longitude,
-            @Param("radius") Double radius);
+            @Param("radius") Double radius,
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude);
 }
\ No newline at end of file
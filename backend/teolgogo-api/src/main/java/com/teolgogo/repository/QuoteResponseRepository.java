@@ -48,6 +48,21 @@ public interface QuoteResponseRepository extends JpaRepository<QuoteResponse, Lo
             @Param("startDate") java.time.LocalDateTime startDate,
             @Param("endDate") java.time.LocalDateTime endDate);
 
+    // 업체별 견적 제안 상태와 요청 생성 시간 조회 (통계 집계용)
+    @Query("SELECT qr.status, q.createdAt FROM QuoteResponse qr JOIN qr.quoteRequest q WHERE qr.business.id = :businessId")
+    List<Object[]> findStatusAndRequestCreatedAtByBusinessId(@Param("businessId") Long businessId);
+
+    // 서비스 유형별 수락된 견적 평균 가격 (서비스 유형, 평균 가격)
+    @Query("SELECT q.serviceType, AVG(qr.price) FROM QuoteResponse qr JOIN qr.quoteRequest q " +
+            "WHERE qr.status = com.teolgogo.entity.QuoteResponse.ResponseStatus.ACCEPTED GROUP BY q.serviceType")
+    List<Object[]> averageAcceptedPriceGroupByServiceType();
+
+    // 전체 견적 제안 수와 수락된 견적 제안 수 (제안 수, 수락 수)
+    @Query("SELECT COUNT(qr), " +
+            "SUM(CASE WHEN qr.status = com.teolgogo.entity.QuoteResponse.ResponseStatus.ACCEPTED THEN 1 ELSE 0 END) " +
+            "FROM QuoteResponse qr")
+    List<Object[]> countTotalAndAccepted();
+
     // 업체별 수락된 견적 제안 수 조회
     @Query("SELECT qr.business.id, COUNT(qr) FROM QuoteResponse qr WHERE qr.status = 'ACCEPTED' GROUP BY qr.business.id")
     List<Object[]> countAcceptedQuotesByBusiness();
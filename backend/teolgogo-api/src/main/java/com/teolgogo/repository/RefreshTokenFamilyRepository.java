@@ -0,0 +1,53 @@
+package com.teolgogo.repository;
+
+import com.teolgogo.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    /**
+     * 갱신용 조회 (같은 계열의 동시 갱신은 순서대로 처리)
+     */
+    @Query(value = "SELECT * FROM refresh_token_families WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<RefreshTokenFamily> findByIdForUpdate(@Param("id") String id);
+
+    /**
+     * 지정 시각 이후 폐기된, 아직 만료되지 않은 계열 [id, expiresAt]
+     */
+    @Query("SELECT f.id, f.expiresAt FROM RefreshTokenFamily f " +
+            "WHERE f.revokedAt >= :since AND f.expiresAt > :now")
+    List<Object[]> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 유효한 계열 [id, expiresAt]
+     */
+    @Query("SELECT f.id, f.expiresAt FROM RefreshTokenFamily f " +
+            "WHERE f.userId = :userId AND f.revokedAt IS NULL AND f.expiresAt > :now")
+    List<Object[]> findActiveByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.revokedAt = :now, f.revokeReason = :reason " +
+            "WHERE f.id = :id AND f.revokedAt IS NULL")
+    int revoke(@Param("id") String id, @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.revokedAt = :now, f.revokeReason = :reason " +
+            "WHERE f.userId = :userId AND f.revokedAt IS NULL AND f.expiresAt > :now")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 계열 삭제 (만료 후에는 토큰 자체가 거부되므로 기록이 필요 없음)
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
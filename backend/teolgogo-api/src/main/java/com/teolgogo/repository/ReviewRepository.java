@@ -37,9 +37,25 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.business.id = :businessId")
     Double calculateAverageRatingByBusinessId(@Param("businessId") Long businessId);
 
+    // 업체별 평점 분포 (평점, 리뷰 수)
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.business.id = :businessId GROUP BY r.rating")
+    List<Object[]> countByRatingForBusiness(@Param("businessId") Long businessId);
+
+    // 업체별 태그 빈도 (태그, 리뷰 수)
+    @Query("SELECT t, COUNT(r) FROM Review r JOIN r.tags t WHERE r.business.id = :businessId GROUP BY t")
+    List<Object[]> countByTagForBusiness(@Param("businessId") Long businessId);
+
     // 기간별 리뷰 조회
     List<Review> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    // 기간 내 일별 리뷰 수와 평점 합계 (날짜, 리뷰 수, 평점 합계)
+    @Query(value =
+            "SELECT DATE(r.created_at), COUNT(*), COALESCE(SUM(r.rating), 0) FROM reviews r " +
+                    "WHERE r.created_at >= :start AND r.created_at < :end " +
+                    "GROUP BY DATE(r.created_at)",
+            nativeQuery = true)
+    List<Object[]> sumRatingGroupByDate(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     // 공개 리뷰만 조회
     List<Review> findByBusinessIdAndIsPublic(Long businessId, Boolean isPublic);
 
@@ -20,23 +20,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByPhone(String phone);
 
-    // 위치 기반 주변 업체 찾기
+    // 위치 기반 주변 사용자 찾기 (경계 상자로 후보를 좁힌 뒤 반경 확인, 거리순 정렬)
     @Query(value =
-            "SELECT u FROM User u " +
-                    "WHERE u.role = :role " +
-                    "AND u.latitude IS NOT NULL " +
-                    "AND u.longitude IS NOT NULL " +
-                    "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(u.latitude)) * " +
+            "SELECT d.id AS id, d.distance AS distance FROM (" +
+                    "SELECT u.id, " +
+                    "(6371 * acos(LEAST(1, cos(radians(:latitude)) * cos(radians(u.latitude)) * " +
                     "cos(radians(u.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-                    "sin(radians(u.latitude)))) <= :radius " +
-                    "ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(u.latitude)) * " +
-                    "cos(radians(u.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-                    "sin(radians(u.latitude))))")
-    List<User> findNearbyBusinessUsers(
+                    "sin(radians(u.latitude))))) AS distance " +
+                    "FROM users u " +
+                    "WHERE u.role = :#{#role.name()} " +
+                    "AND u.latitude BETWEEN :minLatitude AND :maxLatitude " +
+                    "AND u.longitude BETWEEN :minLongitude AND :maxLongitude" +
+                    ") d WHERE d.distance <= :radius " +
+                    "ORDER BY d.distance",
+            nativeQuery = true)
+    List<GeoDistanceProjection> findDistancesByRoleWithinBox(
+            @Param("role") User.Role role,
             @Param("latitude") Double latitude,
             @Param("longitude") Double longitude,
             @Param("radius") Double radius,
-            @Param("role") User.Role role);
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude);
+
+    // 위치가 등록된 특정 역할 사용자 조회 (전문 분야를 한 번에 함께 로드)
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.specialties " +
+            "WHERE u.role = :role AND u.latitude IS NOT NULL AND u.longitude IS NOT NULL")
+    List<User> findLocatedByRoleWithSpecialties(@Param("role") User.Role role);
 
     // 카카오 연동된 사용자 찾기
     List<User> findByKakaoLinkedTrue();
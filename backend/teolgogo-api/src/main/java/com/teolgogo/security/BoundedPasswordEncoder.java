@@ -0,0 +1,143 @@
+package com.teolgogo.security;
+
+import com.teolgogo.exception.ServiceBusyException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 전용 스레드 풀에서 BCrypt 해시를 계산하는 PasswordEncoder
+ * 동시에 해시를 계산하는 스레드 수를 제한하고, 대기열이 가득 차면 기다리지 않고 바로 503으로 거절
+ * (로그인이 몰려도 해시 대기 요청은 풀 크기 + 대기열 크기까지만 쌓여 다른 API의 요청 스레드를 남겨 둠)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    // 해시 시간 분포 계산용 최근 측정값 개수
+    private static final int SAMPLE_SIZE = 1024;
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int strength;
+    private final int retryAfterSeconds;
+
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLongArray recentNanos = new AtomicLongArray(SAMPLE_SIZE);
+
+    public BoundedPasswordEncoder(int strength, int poolSize, int queueCapacity, int retryAfterSeconds) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 해시 시간(ms)과 풀 상태 (관리자용)
+     */
+    public Map<String, Long> getMetrics() {
+        long count = hashCount.get();
+        long[] samples = new long[(int) Math.min(count, SAMPLE_SIZE)];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = recentNanos.get(i);
+        }
+        Arrays.sort(samples);
+
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("strength", (long) strength);
+        metrics.put("hashed", count);
+        metrics.put("rejected", rejectedCount.get());
+        metrics.put("active", (long) executor.getActiveCount());
+        metrics.put("queued", (long) executor.getQueue().size());
+        metrics.put("avgMs", count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / count) : 0L);
+        metrics.put("p50Ms", percentileMillis(samples, 0.50));
+        metrics.put("p99Ms", percentileMillis(samples, 0.99));
+        metrics.put("maxMs", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        return metrics;
+    }
+
+    // 빈 종료 시 호출
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("비밀번호 해시 계산에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void record(long nanos) {
+        long index = hashCount.getAndIncrement();
+        recentNanos.set((int) (index % SAMPLE_SIZE), nanos);
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static long percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, index)]);
+    }
+}
@@ -5,6 +5,9 @@ import com.teolgogo.exception.OAuth2AuthenticationProcessingException;
 import com.teolgogo.repository.UserRepository;
 import com.teolgogo.security.oauth2.OAuth2UserInfo;
 import com.teolgogo.security.oauth2.OAuth2UserInfoFactory;
+import com.teolgogo.service.BusinessSearchIndex;
+import com.teolgogo.service.BusinessSubscriptionRegistry;
+import com.teolgogo.service.UserSnapshotCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.AuthenticationException;
@@ -21,10 +24,20 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final BusinessSearchIndex businessSearchIndex;
+    private final BusinessSubscriptionRegistry businessSubscriptionRegistry;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Autowired
-    public CustomOAuth2UserService(UserRepository userRepository) {
+    public CustomOAuth2UserService(
+            UserRepository userRepository,
+            BusinessSearchIndex businessSearchIndex,
+            BusinessSubscriptionRegistry businessSubscriptionRegistry,
+            UserSnapshotCache userSnapshotCache) {
         this.userRepository = userRepository;
+        this.businessSearchIndex = businessSearchIndex;
+        this.businessSubscriptionRegistry = businessSubscriptionRegistry;
+        this.userSnapshotCache = userSnapshotCache;
     }
 
     @Override
@@ -93,6 +106,10 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             existingUser.setProfileImage(oAuth2UserInfo.getImageUrl());
         }
 
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        businessSearchIndex.update(savedUser);
+        businessSubscriptionRegistry.updateBusiness(savedUser);
+        userSnapshotCache.evict(savedUser.getId());
+        return savedUser;
     }
 }
\ No newline at end of file
@@ -7,7 +7,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -32,12 +31,4 @@ public class CustomUserDetailsService implements UserDetailsService {
         System.out.println("사용자 정보 로드 성공: " + email);
         return user;
     }
-
-    @Transactional(readOnly = true)
-    public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("ID " + id + "로 사용자를 찾을 수 없습니다."));
-
-        return user;
-    }
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.teolgogo.security;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -22,7 +22,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private CustomUserDetailsService customUserDetailsService;
+    private TokenFamilyDenylist tokenFamilyDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -32,14 +32,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             System.out.println("JWT 토큰: " + (jwt != null ? jwt.substring(0, Math.min(20, jwt.length())) + "..." : "없음"));
 
             if (StringUtils.hasText(jwt)) {
-                boolean isValid = tokenProvider.validateToken(jwt);
-                System.out.println("토큰 유효성: " + isValid);
+                // 한 번만 검증하고 클레임 사용 (같은 토큰은 만료 전까지 캐시)
+                Claims claims = tokenProvider.validateAndGetClaims(jwt);
+                logger.debug("토큰 유효성: " + (claims != null));
 
-                if (isValid) {
-                    Long userId = tokenProvider.getUserIdFromToken(jwt);
-                    System.out.println("사용자 ID: " + userId);
+                // 로그아웃 등으로 폐기된 계열의 토큰은 만료 전이라도 거부 (메모리에서 확인)
+                if (claims != null && tokenFamilyDenylist.isRevoked(claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class))) {
+                    logger.debug("폐기된 토큰 계열");
+                    claims = null;
+                }
+
+                // 클레임으로 인증 사용자 구성 (DB 조회 없음, 리프레시 토큰은 역할 클레임이 없어 제외)
+                UserPrincipal userDetails = claims != null ? UserPrincipal.fromClaims(claims) : null;
+                if (userDetails != null) {
+                    logger.debug("사용자 ID: " + userDetails.getId());
 
-                    UserDetails userDetails = customUserDetailsService.loadUserById(userId);
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
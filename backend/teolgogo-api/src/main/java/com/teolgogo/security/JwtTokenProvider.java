@@ -6,18 +6,28 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtTokenProvider {
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    // 토큰 계열 ID 클레임 (로그아웃, 탈취 감지 시 계열 단위로 폐기)
+    public static final String FAMILY_CLAIM = "fam";
+
     @Value("${app.auth.tokenSecret}")
     private String tokenSecret;
 
@@ -27,20 +37,48 @@ public class JwtTokenProvider {
     @Value("${app.auth.refreshTokenExpirationMsec}")
     private long refreshTokenExpirationMsec;
 
+    // 검증된 토큰 캐시 크기 (0이면 캐시하지 않음)
+    @Value("${app.auth.token-cache-size:10000}")
+    private int tokenCacheSize;
+
     // 안전한 JWT 키를 저장할 변수 추가
     private SecretKey jwtSecretKey;
 
+    // 검증용 파서 (스레드 안전, 재사용)
+    private JwtParser jwtParser;
+
+    // 토큰 해시 -> 검증된 클레임 (만료 시각까지만 사용, 오래 사용하지 않은 토큰부터 제거)
+    private Map<String, Claims> verifiedTokens;
+
+    // 발급, 만료 판단 기준 시계 (테스트에서 교체)
+    private Clock clock = Clock.systemUTC();
+
     // 객체 생성 후 안전한 키 초기화
     @PostConstruct
     public void init() {
         // 고정된 키를 사용하는 방식으로 변경
         // 이 방식은 항상 같은 키를 사용하므로 애플리케이션이 재시작해도 토큰이 유효함
         this.jwtSecretKey = Keys.hmacShaKeyFor(tokenSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(jwtSecretKey)
+                .setClock(this::now)
+                .build();
+        this.verifiedTokens = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > tokenCacheSize;
+            }
+        };
     }
 
     // 액세스 토큰 생성
     public String createAccessToken(User user) {
-        Date now = new Date();
+        return createAccessToken(user, null);
+    }
+
+    // 액세스 토큰 생성 (리프레시 토큰 계열 포함, 계열이 폐기되면 만료 전이라도 거부)
+    public String createAccessToken(User user, String familyId) {
+        Date now = now();
         Date expiryDate = new Date(now.getTime() + tokenExpirationMsec);
 
         return Jwts.builder()
@@ -48,6 +86,7 @@ public class JwtTokenProvider {
                 .claim("role", user.getRole().name())
                 .claim("email", user.getEmail())
                 .claim("name", user.getName())
+                .claim(FAMILY_CLAIM, familyId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(jwtSecretKey) // SecretKey 객체 사용
@@ -60,13 +99,15 @@ public class JwtTokenProvider {
         return createAccessToken(user);
     }
 
-    // 리프레시 토큰 생성
-    public String createRefreshToken(User user) {
-        Date now = new Date();
+    // 리프레시 토큰 생성 (계열 ID와 토큰 ID 포함, 갱신할 때마다 새 토큰 ID 발급)
+    public String createRefreshToken(User user, String familyId, String tokenId) {
+        Date now = now();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpirationMsec);
 
         String token = Jwts.builder()
                 .setSubject(Long.toString(user.getId()))
+                .setId(tokenId)
+                .claim(FAMILY_CLAIM, familyId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(jwtSecretKey) // SecretKey 객체 사용
@@ -76,24 +117,63 @@ public class JwtTokenProvider {
         return token;
     }
 
+    /**
+     * 토큰 검증 후 클레임 반환 (검증 실패 시 예외)
+     * 한 번 검증한 토큰은 만료 시각까지 캐시에서 바로 반환 (서명 검증, 파싱 생략)
+     */
+    public Claims parseClaims(String token) {
+        String key = tokenCacheSize > 0 && token != null ? hash(token) : null;
+        if (key != null) {
+            synchronized (verifiedTokens) {
+                Claims cached = verifiedTokens.get(key);
+                if (cached != null) {
+                    if (cached.getExpiration() == null || cached.getExpiration().after(now())) {
+                        return cached;
+                    }
+                    verifiedTokens.remove(key);
+                }
+            }
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        if (key != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(key, claims);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 검증 후 클레임 반환 (유효하지 않으면 null)
+     */
+    public Claims validateAndGetClaims(String authToken) {
+        try {
+            return parseClaims(authToken);
+        } catch (SignatureException ex) {
+            logger.error("유효하지 않은 JWT 서명입니다.");
+        } catch (MalformedJwtException ex) {
+            logger.error("유효하지 않은 JWT 토큰입니다.");
+        } catch (ExpiredJwtException ex) {
+            logger.error("만료된 JWT 토큰입니다.");
+        } catch (UnsupportedJwtException ex) {
+            logger.error("지원하지 않는 JWT 토큰입니다.");
+        } catch (IllegalArgumentException ex) {
+            logger.error("JWT 토큰이 비어있습니다.");
+        }
+        return null;
+    }
+
     // 토큰에서 사용자 ID 추출
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder() // 새로운 파서 빌더 API 사용
-                .setSigningKey(jwtSecretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return Long.parseLong(claims.getSubject());
+        return Long.parseLong(parseClaims(token).getSubject());
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String authToken) {
         try {
-            Jwts.parserBuilder() // 새로운 파서 빌더 API 사용
-                    .setSigningKey(jwtSecretKey)
-                    .build()
-                    .parseClaimsJws(authToken);
+            parseClaims(authToken);
             return true;
         } catch (SignatureException ex) {
             logger.error("유효하지 않은 JWT 서명입니다.");
@@ -111,13 +191,8 @@ public class JwtTokenProvider {
 
     // 토큰 만료 시간 확인
     public long getExpirationTime(String token) {
-        Claims claims = Jwts.parserBuilder() // 새로운 파서 빌더 API 사용
-                .setSigningKey(jwtSecretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getExpiration().getTime() - new Date().getTime();
+        Claims claims = parseClaims(token);
+        return claims.getExpiration().getTime() - clock.millis();
     }
 
     public long getAccessTokenExpirationMsec() {
@@ -127,4 +202,22 @@ public class JwtTokenProvider {
     public long getRefreshTokenExpirationMsec() {
         return refreshTokenExpirationMsec;
     }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private Date now() {
+        return Date.from(clock.instant());
+    }
+
+    // 캐시 키 (원본 토큰을 메모리에 남기지 않도록 SHA-256 해시 사용)
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.teolgogo.security;
 
 import com.teolgogo.config.AppProperties;
 import com.teolgogo.entity.User;
+import com.teolgogo.dto.TokenResponse;
 import com.teolgogo.exception.BadRequestException;
 import com.teolgogo.security.oauth2.OAuth2AuthorizationRequestRepository;
+import com.teolgogo.service.RefreshTokenService;
 import com.teolgogo.util.CookieUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -24,15 +26,15 @@ import static com.teolgogo.security.oauth2.OAuth2AuthorizationRequestRepository.
 @Component
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final AppProperties appProperties;
     private final CookieUtils cookieUtils;
     private final OAuth2AuthorizationRequestRepository authorizationRequestRepository;
 
     @Autowired
-    public OAuth2AuthenticationSuccessHandler(JwtTokenProvider tokenProvider, AppProperties appProperties,
+    public OAuth2AuthenticationSuccessHandler(RefreshTokenService refreshTokenService, AppProperties appProperties,
                                               CookieUtils cookieUtils, OAuth2AuthorizationRequestRepository authorizationRequestRepository) {
-        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
         this.appProperties = appProperties;
         this.cookieUtils = cookieUtils;
         this.authorizationRequestRepository = authorizationRequestRepository;
@@ -61,18 +63,16 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
         String targetUrl = redirectUri.orElse(getDefaultTargetUrl());
 
-        // JWT 토큰 생성
+        // JWT 토큰 생성 (로그인마다 새 토큰 계열 시작)
         User user = (User) authentication.getPrincipal();
-        String accessToken = tokenProvider.createAccessToken(user);
-        String refreshToken = tokenProvider.createRefreshToken(user);
+        TokenResponse tokens = refreshTokenService.issue(user);
 
         // 리프레시 토큰은 쿠키에 저장
-        int refreshTokenMaxAge = (int) (tokenProvider.getRefreshTokenExpirationMsec() / 1000);
-        CookieUtils.addRefreshTokenCookie(response, refreshToken, refreshTokenMaxAge);
+        CookieUtils.addRefreshTokenCookie(response, tokens.getRefreshToken(), refreshTokenService.getRefreshTokenMaxAge());
 
         // 액세스 토큰은 URL 파라미터로 전달
         return UriComponentsBuilder.fromUriString(targetUrl)
-                .queryParam("token", accessToken)
+                .queryParam("token", tokens.getAccessToken())
                 .queryParam("token_type", "Bearer")
                 .build().toUriString();
     }
@@ -0,0 +1,96 @@
+package com.teolgogo.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로그인, 회원가입, 이메일 확인, 다중 파일 업로드 요청 수 제한 (JWT 인증 필터보다 먼저 실행)
+ * 한도를 넘으면 429와 Retry-After로 바로 응답
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JwtTokenProvider tokenProvider;
+
+    @Autowired
+    public RateLimitFilter(RateLimiter rateLimiter, JwtTokenProvider tokenProvider) {
+        this.rateLimiter = rateLimiter;
+        this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimiter.Route route = rateLimiter.findRoute(request.getMethod(), request.getServletPath());
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = rateLimiter.tryAcquire(route, resolveClientKey(request, route));
+        if (retryAfterSeconds > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 사용자 기준 경로는 유효한 액세스 토큰의 사용자 ID (검증 결과는 JWT 인증 필터와 캐시 공유), 그 외에는 IP
+    private String resolveClientKey(HttpServletRequest request, RateLimiter.Route route) {
+        if (route.isByUser()) {
+            String bearerToken = request.getHeader("Authorization");
+            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+                Claims claims = tokenProvider.validateAndGetClaims(bearerToken.substring(7));
+                if (claims != null && claims.getSubject() != null) {
+                    return "user:" + claims.getSubject();
+                }
+            }
+        }
+        return "ip:" + resolveClientIp(request);
+    }
+
+    // 신뢰하는 프록시가 덧붙인 주소만 사용 (빈 항목은 건너뛰고 오른쪽에서 trusted-proxy-hops 번째,
+    // 그보다 짧으면 가장 왼쪽, 항목이 없으면 접속 주소)
+    String resolveClientIp(HttpServletRequest request) {
+        if (rateLimiter.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                List<String> addresses = new ArrayList<>();
+                for (String address : forwardedFor.split(",")) {
+                    if (StringUtils.hasText(address)) {
+                        addresses.add(address.trim());
+                    }
+                }
+                if (!addresses.isEmpty()) {
+                    return addresses.get(Math.max(0, addresses.size() - rateLimiter.getTrustedProxyHops()));
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
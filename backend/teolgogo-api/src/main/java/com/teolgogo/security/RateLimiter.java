@@ -0,0 +1,236 @@
+package com.teolgogo.security;
+
+import com.teolgogo.config.AppProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로별 토큰 버킷 요청 제한
+ * 버킷은 (경로, 클라이언트) 단위로 만들고, 잠금 없이 CAS로 토큰을 차감
+ * 버킷 맵은 여러 조각으로 나누어 두고, 오래 쓰지 않은 버킷은 조각별로 정리
+ * (서버별 메모리에서 처리하므로 여러 서버에서는 서버마다 따로 제한)
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final int STRIPES = 16;
+
+    private final AppProperties.RateLimit properties;
+    private final List<Route> routes;
+    private final long idleNanos;
+
+    @SuppressWarnings("unchecked")
+    private final Map<String, Bucket>[] stripes = new Map[STRIPES];
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public RateLimiter(AppProperties appProperties) {
+        this.properties = appProperties.getRateLimit();
+        this.idleNanos = TimeUnit.MINUTES.toNanos(Math.max(1, properties.getIdleMinutes()));
+        this.routes = Arrays.asList(
+                new Route("login", "POST", "/auth/login", false, properties.getLogin()),
+                new Route("signup", "POST", "/auth/signup", false, properties.getSignup()),
+                new Route("check-email", "GET", "/auth/check-email", false, properties.getCheckEmail()),
+                new Route("upload", "POST", "/files/upload-multiple", true, properties.getUpload()));
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::evictIdle, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isTrustForwardedFor() {
+        return properties.isTrustForwardedFor();
+    }
+
+    public int getTrustedProxyHops() {
+        return Math.max(1, properties.getTrustedProxyHops());
+    }
+
+    /**
+     * 요청 제한 대상 경로 (없으면 null)
+     */
+    public Route findRoute(String method, String path) {
+        for (Route route : routes) {
+            if (route.method.equalsIgnoreCase(method) && route.path.equals(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(초, 최소 1)
+     */
+    public long tryAcquire(Route route, String clientKey) {
+        return tryAcquire(route, clientKey, System.nanoTime());
+    }
+
+    long tryAcquire(Route route, String clientKey, long now) {
+        if (route.refillPerNano <= 0) {
+            return 0;
+        }
+        String key = route.name + ':' + clientKey;
+        Bucket bucket = stripeFor(key).computeIfAbsent(key, k -> new Bucket(route, now));
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos == 0) {
+            return 0;
+        }
+        route.rejected.increment();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    /**
+     * 경로별 거절 건수와 현재 버킷 수 (관리자용)
+     */
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        for (Route route : routes) {
+            metrics.put(route.name + ".rejected", route.rejected.sum());
+        }
+        long buckets = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            buckets += stripe.size();
+        }
+        metrics.put("buckets", buckets);
+        return metrics;
+    }
+
+    private Map<String, Bucket> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    // 가득 찰 만큼 오래 쓰지 않은 버킷 제거 (다시 만들어도 가득 찬 상태라 결과가 같음)
+    private void evictIdle() {
+        evictIdle(System.nanoTime());
+    }
+
+    void evictIdle(long now) {
+        try {
+            int evicted = 0;
+            for (Map<String, Bucket> stripe : stripes) {
+                int before = stripe.size();
+                stripe.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+                evicted += before - stripe.size();
+            }
+            if (evicted > 0) {
+                logger.debug("요청 제한 버킷 {}개 정리", evicted);
+            }
+        } catch (Exception e) {
+            logger.error("요청 제한 버킷 정리 실패", e);
+        }
+    }
+
+    /**
+     * 요청 제한 경로 (byUser면 로그인 사용자는 사용자 ID, 그 외에는 IP 기준)
+     */
+    public static final class Route {
+        private final String name;
+        private final String method;
+        private final String path;
+        private final boolean byUser;
+        private final double capacity;
+        private final double refillPerNano;
+        private final LongAdder rejected = new LongAdder();
+
+        private Route(String name, String method, String path, boolean byUser, AppProperties.Rule rule) {
+            this.name = name;
+            this.method = method;
+            this.path = path;
+            this.byUser = byUser;
+            this.capacity = Math.max(1, rule.getCapacity());
+            this.refillPerNano = rule.getRefillPerMinute() / (double) TimeUnit.MINUTES.toNanos(1);
+        }
+
+        public boolean isByUser() {
+            return byUser;
+        }
+    }
+
+    private static final class Bucket {
+        private final Route route;
+        private final AtomicReference<State> state;
+
+        private Bucket(Route route, long now) {
+            this.route = route;
+            this.state = new AtomicReference<>(new State(route.capacity, now));
+        }
+
+        // 허용되면 0, 거절되면 토큰 1개가 찰 때까지 남은 시간(ns)
+        private long tryConsume(long now) {
+            while (true) {
+                State current = state.get();
+                double tokens = current.tokensAt(now, route);
+                if (tokens < 1) {
+                    return (long) Math.ceil((1 - tokens) / route.refillPerNano);
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                    return 0;
+                }
+            }
+        }
+
+        private boolean isIdle(long now, long idleNanos) {
+            State current = state.get();
+            return now - current.updatedAt > idleNanos && current.tokensAt(now, route) >= route.capacity;
+        }
+    }
+
+    // 변경하지 않고 통째로 교체
+    private static final class State {
+        private final double tokens;
+        private final long updatedAt;
+
+        private State(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        private double tokensAt(long now, Route route) {
+            return Math.min(route.capacity, tokens + Math.max(0, now - updatedAt) * route.refillPerNano);
+        }
+    }
+}
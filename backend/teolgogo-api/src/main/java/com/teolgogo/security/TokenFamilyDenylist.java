@@ -0,0 +1,156 @@
+package com.teolgogo.security;
+
+import com.teolgogo.repository.RefreshTokenFamilyRepository;
+import com.teolgogo.util.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기된 토큰 계열 목록 (요청마다 확인, DB 조회 없음)
+ * 블룸 필터로 대부분의 정상 토큰을 바로 통과시키고, 걸린 경우에만 정확한 목록 확인
+ * 다른 서버에서 폐기한 계열은 주기적으로 DB에서 가져오고,
+ * 만료된 항목은 주기적으로 정리하면서 블룸 필터를 다시 생성
+ */
+@Component
+public class TokenFamilyDenylist {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenFamilyDenylist.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RefreshTokenFamilyRepository familyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int bloomCapacity;
+    private final long syncMillis;
+    private final long compactionMillis;
+
+    // 계열 ID -> 만료 시각 (epoch millis)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+
+    // 마지막 동기화 시각 (다음 동기화는 여기서부터)
+    private volatile LocalDateTime syncedUntil;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TokenFamilyDenylist(
+            RefreshTokenFamilyRepository familyRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.auth.denylist.bloom-capacity:100000}") int bloomCapacity,
+            @Value("${app.auth.denylist.sync-seconds:30}") long syncSeconds,
+            @Value("${app.auth.denylist.compaction-minutes:60}") long compactionMinutes) {
+        this.familyRepository = familyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bloomCapacity = Math.max(1000, bloomCapacity);
+        this.syncMillis = TimeUnit.SECONDS.toMillis(syncSeconds);
+        this.compactionMillis = TimeUnit.MINUTES.toMillis(compactionMinutes);
+        this.bloomFilter = new BloomFilter(this.bloomCapacity, FALSE_POSITIVE_RATE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // 아직 만료되지 않은 폐기 계열 전체 로드
+        syncedUntil = LocalDateTime.now().minusYears(100);
+        sync();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-denylist");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sync, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::compact, compactionMillis, compactionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 폐기된 계열인지 확인 (계열 정보가 없는 토큰은 false)
+     */
+    public boolean isRevoked(String familyId) {
+        if (familyId == null || !bloomFilter.mightContain(familyId)) {
+            return false;
+        }
+        return revoked.containsKey(familyId);
+    }
+
+    /**
+     * 폐기 계열 추가 (이 서버에는 바로 반영, 다른 서버는 다음 동기화 때 반영)
+     */
+    public void add(String familyId, LocalDateTime expiresAt) {
+        // 정확한 목록에 먼저 넣어야 블룸 필터에 걸렸을 때 항상 찾을 수 있음
+        revoked.put(familyId, toMillis(expiresAt));
+        bloomFilter.put(familyId);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private void sync() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // 트랜잭션 커밋 지연을 고려해 조금 겹치게 조회
+            LocalDateTime since = syncedUntil.minusSeconds(5);
+            List<Object[]> rows = familyRepository.findRevokedSince(since, now);
+            for (Object[] row : rows) {
+                add((String) row[0], (LocalDateTime) row[1]);
+            }
+            syncedUntil = now;
+            if (!rows.isEmpty()) {
+                logger.debug("폐기 토큰 계열 {}건 동기화", rows.size());
+            }
+        } catch (Exception e) {
+            logger.error("폐기 토큰 계열 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 만료된 항목 제거 후 블룸 필터 재생성, 만료된 계열 기록 삭제
+     */
+    private void compact() {
+        try {
+            long now = System.currentTimeMillis();
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+            // 재생성 중 추가되는 항목은 새 필터에도 넣기 위해 교체 후 한 번 더 반영
+            BloomFilter rebuilt = new BloomFilter(Math.max(bloomCapacity, revoked.size() * 2), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+            revoked.keySet().forEach(rebuilt::put);
+
+            Integer deleted = transactionTemplate.execute(status ->
+                    familyRepository.deleteExpired(LocalDateTime.now()));
+            logger.info("폐기 토큰 계열 정리: 유지 {}건, 만료 기록 삭제 {}건", revoked.size(), deleted);
+        } catch (Exception e) {
+            logger.error("폐기 토큰 계열 정리 실패", e);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,98 @@
+package com.teolgogo.security;
+
+import com.teolgogo.entity.User;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 액세스 토큰의 클레임으로 만든 인증 사용자 (요청마다 DB에서 사용자를 읽지 않음)
+ * ID, 이메일, 이름, 역할만 가지고 있으므로 다른 정보가 필요하면 UserSnapshotCache에서 조회
+ * 역할/이름 변경은 새 액세스 토큰을 발급받을 때 반영됨
+ */
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final User.Role role;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String email, String name, User.Role role) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    /**
+     * 액세스 토큰 클레임으로 생성 (역할 클레임이 없으면 액세스 토큰이 아니므로 null)
+     */
+    public static UserPrincipal fromClaims(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (role == null) {
+            return null;
+        }
+        return new UserPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                User.Role.valueOf(role));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public User.Role getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
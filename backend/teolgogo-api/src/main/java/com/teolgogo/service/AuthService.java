@@ -5,7 +5,6 @@ import com.teolgogo.dto.SignupRequest;
 import com.teolgogo.dto.TokenResponse;
 import com.teolgogo.entity.User;
 import com.teolgogo.repository.UserRepository;
-import com.teolgogo.security.JwtTokenProvider;
 import com.teolgogo.util.CookieUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,8 +15,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.Optional;
 
 @Service
 public class AuthService {
@@ -25,21 +24,27 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final CookieUtils cookieUtils;
+    private final BusinessSearchIndex businessSearchIndex;
+    private final BusinessSubscriptionRegistry businessSubscriptionRegistry;
 
     @Autowired
     public AuthService(
             AuthenticationManager authenticationManager,
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenProvider tokenProvider,
-            CookieUtils cookieUtils) {
+            RefreshTokenService refreshTokenService,
+            CookieUtils cookieUtils,
+            BusinessSearchIndex businessSearchIndex,
+            BusinessSubscriptionRegistry businessSubscriptionRegistry) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
         this.cookieUtils = cookieUtils;
+        this.businessSearchIndex = businessSearchIndex;
+        this.businessSubscriptionRegistry = businessSubscriptionRegistry;
     }
 
     // 로그인 처리
@@ -61,22 +66,15 @@ public class AuthService {
             User user = (User) authentication.getPrincipal();
             System.out.println("사용자 정보 로드: " + user.getEmail() + ", 역할: " + user.getRole());
 
-            String accessToken = tokenProvider.createAccessToken(user);
-            String refreshToken = tokenProvider.createRefreshToken(user);
+            // 로그인마다 새 토큰 계열 시작
+            TokenResponse tokenResponse = refreshTokenService.issue(user);
 
-            System.out.println("로그인 토큰 생성 - 액세스 토큰: " + accessToken.substring(0, 20) + "...");
-            System.out.println("로그인 토큰 생성 - 리프레시 토큰: " + refreshToken.substring(0, 20) + "...");
+            System.out.println("로그인 토큰 생성 - 액세스 토큰: " + tokenResponse.getAccessToken().substring(0, 20) + "...");
+            System.out.println("로그인 토큰 생성 - 리프레시 토큰: " + tokenResponse.getRefreshToken().substring(0, 20) + "...");
 
             // 리프레시 토큰은 쿠키에 저장
-            int refreshTokenMaxAge = (int) (tokenProvider.getRefreshTokenExpirationMsec() / 1000);
-            CookieUtils.addRefreshTokenCookie(response, refreshToken, refreshTokenMaxAge);
-
-            TokenResponse tokenResponse = TokenResponse.builder()
-                    .accessToken(accessToken)
-                    .refreshToken(refreshToken)
-                    .tokenType("Bearer")
-                    .expiresIn(tokenProvider.getAccessTokenExpirationMsec() / 1000)
-                    .build();
+            CookieUtils.addRefreshTokenCookie(response, tokenResponse.getRefreshToken(),
+                    refreshTokenService.getRefreshTokenMaxAge());
 
             System.out.println("토큰 응답 생성 완료");
             return tokenResponse;
@@ -132,6 +130,8 @@ public class AuthService {
 
             User savedUser = userRepository.save(user);
             System.out.println("사용자 저장 성공: " + savedUser.getId());
+            businessSearchIndex.update(savedUser);
+            businessSubscriptionRegistry.updateBusiness(savedUser);
             return savedUser;
         } catch (Exception e) {
             System.err.println("사용자 저장 실패: " + e.getMessage());
@@ -140,33 +140,32 @@ public class AuthService {
         }
     }
 
-    // 리프레시 토큰으로 새 액세스 토큰 발급
-    public TokenResponse refreshToken(String refreshToken) {
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
-        }
-
-        Long userId = tokenProvider.getUserIdFromToken(refreshToken);
-        Optional<User> userOpt = userRepository.findById(userId);
+    // 리프레시 토큰으로 새 액세스 토큰 발급 (사용한 리프레시 토큰은 새 토큰으로 교체)
+    public TokenResponse refreshToken(String refreshToken, HttpServletResponse response) {
+        TokenResponse tokenResponse = refreshTokenService.rotate(refreshToken);
 
-        if (!userOpt.isPresent()) {
-            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        if (tokenResponse.getRefreshToken() != null) {
+            CookieUtils.addRefreshTokenCookie(response, tokenResponse.getRefreshToken(),
+                    refreshTokenService.getRefreshTokenMaxAge());
         }
+        return tokenResponse;
+    }
 
-        User user = userOpt.get();
-        String accessToken = tokenProvider.createAccessToken(user);
+    // 로그아웃 처리 (리프레시 토큰 계열 폐기)
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        CookieUtils.getCookie(request, "refresh_token")
+                .ifPresent(cookie -> refreshTokenService.revoke(cookie.getValue(), RefreshTokenService.REASON_LOGOUT));
 
-        return TokenResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .tokenType("Bearer")
-                .expiresIn(tokenProvider.getAccessTokenExpirationMsec() / 1000)
-                .build();
+        SecurityContextHolder.clearContext();
+        CookieUtils.deleteRefreshTokenCookie(response);
     }
 
-    // 로그아웃 처리
-    public void logout(HttpServletResponse response) {
+    // 모든 기기에서 로그아웃 (사용자의 모든 토큰 계열 폐기)
+    public int logoutAll(Long userId, HttpServletResponse response) {
+        int revoked = refreshTokenService.revokeAll(userId, RefreshTokenService.REASON_LOGOUT_ALL);
+
         SecurityContextHolder.clearContext();
         CookieUtils.deleteRefreshTokenCookie(response);
+        return revoked;
     }
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.User;
+import com.teolgogo.repository.UserRepository;
+import com.teolgogo.util.SphericalKdTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 업체 최근접 검색용 인메모리 k-d 트리 인덱스
+ * 업체 프로필(위치, 평점, 완료 서비스 수, 전문 분야) 스냅샷을 보관하고,
+ * 변경이 있으면 다음 검색 시 트리를 다시 구성
+ */
+@Component
+public class BusinessSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessSearchIndex.class);
+
+    private final UserRepository userRepository;
+
+    // 업체 ID -> 트리에 넣을 항목
+    private final Map<Long, SphericalKdTree.Point<BusinessSnapshot>> entries = new ConcurrentHashMap<>();
+
+    private volatile SphericalKdTree<BusinessSnapshot> tree;
+    private volatile boolean dirty = true;
+    private volatile boolean ready = false;
+
+    @Autowired
+    public BusinessSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 애플리케이션 시작 시 위치가 등록된 업체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        entries.clear();
+        for (User business : userRepository.findLocatedByRoleWithSpecialties(User.Role.BUSINESS)) {
+            SphericalKdTree.Point<BusinessSnapshot> point = toPoint(business);
+            if (point != null) {
+                entries.put(business.getId(), point);
+            }
+        }
+        dirty = true;
+        ready = true;
+        logger.info("업체 검색 인덱스 적재 완료: {}건", entries.size());
+    }
+
+    /**
+     * 업체 프로필 변경 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영
+     */
+    public void update(User user) {
+        Long id = user.getId();
+        SphericalKdTree.Point<BusinessSnapshot> point = toPoint(user);
+
+        Runnable apply = () -> {
+            if (point != null) {
+                entries.put(id, point);
+            } else {
+                entries.remove(id);
+            }
+            dirty = true;
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 기준 위치에서 가까운 업체를 거리순으로 검색
+     */
+    public List<GeoResult<SphericalKdTree.Point<BusinessSnapshot>>> findNearest(
+            double latitude, double longitude, int limit, Double maxDistanceKm,
+            Double afterDistanceKm, Long afterId, Predicate<BusinessSnapshot> filter) {
+        if (!ready) {
+            load();
+        }
+        return currentTree().nearest(latitude, longitude, limit, maxDistanceKm, afterDistanceKm, afterId, filter);
+    }
+
+    private SphericalKdTree<BusinessSnapshot> currentTree() {
+        SphericalKdTree<BusinessSnapshot> current = tree;
+        if (current != null && !dirty) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (tree == null || dirty) {
+                // 재구성 중 들어온 변경은 다음 검색에서 다시 반영
+                dirty = false;
+                tree = new SphericalKdTree<>(new ArrayList<>(entries.values()));
+            }
+            return tree;
+        }
+    }
+
+    private SphericalKdTree.Point<BusinessSnapshot> toPoint(User user) {
+        if (user.getRole() != User.Role.BUSINESS || !user.isEnabled()
+                || user.getLatitude() == null || user.getLongitude() == null) {
+            return null;
+        }
+        return new SphericalKdTree.Point<>(user.getId(), user.getLatitude(), user.getLongitude(),
+                new BusinessSnapshot(user));
+    }
+
+    /**
+     * 검색 결과 응답에 필요한 업체 정보 스냅샷
+     */
+    public static final class BusinessSnapshot {
+        private final Long id;
+        private final String name;
+        private final String businessName;
+        private final String businessDescription;
+        private final String profileImage;
+        private final String address;
+        private final double averageRating;
+        private final int completedServices;
+        private final Set<String> specialties;
+
+        private BusinessSnapshot(User user) {
+            this.id = user.getId();
+            this.name = user.getName();
+            this.businessName = user.getBusinessName();
+            this.businessDescription = user.getBusinessDescription();
+            this.profileImage = user.getProfileImage();
+            this.address = user.getAddress();
+            this.averageRating = user.getAverageRating() != null ? user.getAverageRating() : 0.0;
+            this.completedServices = user.getCompletedServices() != null ? user.getCompletedServices() : 0;
+            this.specialties = user.getSpecialties() != null
+                    ? Collections.unmodifiableSet(new HashSet<>(user.getSpecialties()))
+                    : Collections.emptySet();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getBusinessName() {
+            return businessName;
+        }
+
+        public String getBusinessDescription() {
+            return businessDescription;
+        }
+
+        public String getProfileImage() {
+            return profileImage;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public double getAverageRating() {
+            return averageRating;
+        }
+
+        public int getCompletedServices() {
+            return completedServices;
+        }
+
+        public Set<String> getSpecialties() {
+            return specialties;
+        }
+    }
+}
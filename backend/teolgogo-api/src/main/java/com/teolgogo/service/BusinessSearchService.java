@@ -0,0 +1,151 @@
+package com.teolgogo.service;
+
+import com.teolgogo.dto.NearbyBusinessDTO;
+import com.teolgogo.dto.NearbyBusinessPageDTO;
+import com.teolgogo.util.SphericalKdTree;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 주변 업체 검색 (거리순 상위 N개, 거리 커서 기반 페이지네이션)
+ */
+@Service
+public class BusinessSearchService {
+
+    private final BusinessSearchIndex businessSearchIndex;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    @Autowired
+    public BusinessSearchService(
+            BusinessSearchIndex businessSearchIndex,
+            @Value("${app.business-search.default-limit:20}") int defaultLimit,
+            @Value("${app.business-search.max-limit:100}") int maxLimit) {
+        this.businessSearchIndex = businessSearchIndex;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 주변 업체 검색
+     *
+     * @param radius 최대 거리(km), null이면 제한 없음
+     * @param specialties 모두 보유해야 하는 전문 분야
+     * @param cursor 이전 응답의 nextCursor, null이면 첫 페이지
+     */
+    public NearbyBusinessPageDTO findNearbyBusinesses(
+            Double latitude, Double longitude, Double radius, Collection<String> specialties,
+            Double minRating, Integer minCompletedServices, Integer limit, String cursor) {
+
+        if (latitude == null || longitude == null
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("유효한 위치 정보가 필요합니다.");
+        }
+
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, maxLimit)) : defaultLimit;
+
+        Double afterDistance = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            Cursor decoded = decodeCursor(cursor);
+            afterDistance = decoded.distance;
+            afterId = decoded.id;
+        }
+
+        Set<String> requiredSpecialties = specialties != null
+                ? specialties.stream()
+                        .map(String::trim)
+                        .filter(specialty -> !specialty.isEmpty())
+                        .collect(Collectors.toSet())
+                : Set.of();
+
+        Predicate<BusinessSearchIndex.BusinessSnapshot> filter = business ->
+                (minRating == null || business.getAverageRating() >= minRating)
+                        && (minCompletedServices == null || business.getCompletedServices() >= minCompletedServices)
+                        && business.getSpecialties().containsAll(requiredSpecialties);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<GeoResult<SphericalKdTree.Point<BusinessSearchIndex.BusinessSnapshot>>> results =
+                businessSearchIndex.findNearest(latitude, longitude, pageSize + 1, radius,
+                        afterDistance, afterId, filter);
+
+        boolean hasNext = results.size() > pageSize;
+        if (hasNext) {
+            results = results.subList(0, pageSize);
+        }
+
+        List<NearbyBusinessDTO> content = results.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            GeoResult<SphericalKdTree.Point<BusinessSearchIndex.BusinessSnapshot>> last = results.get(results.size() - 1);
+            nextCursor = encodeCursor(last.getDistance().getValue(), last.getContent().getId());
+        }
+
+        return NearbyBusinessPageDTO.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private NearbyBusinessDTO toDTO(GeoResult<SphericalKdTree.Point<BusinessSearchIndex.BusinessSnapshot>> result) {
+        SphericalKdTree.Point<BusinessSearchIndex.BusinessSnapshot> point = result.getContent();
+        BusinessSearchIndex.BusinessSnapshot business = point.getValue();
+
+        return NearbyBusinessDTO.builder()
+                .id(business.getId())
+                .name(business.getName())
+                .businessName(business.getBusinessName())
+                .businessDescription(business.getBusinessDescription())
+                .profileImage(business.getProfileImage())
+                .address(business.getAddress())
+                .latitude(point.getLatitude())
+                .longitude(point.getLongitude())
+                .averageRating(business.getAverageRating())
+                .completedServices(business.getCompletedServices())
+                .specialties(business.getSpecialties())
+                .distance(Math.round(result.getDistance().getValue() * 100) / 100.0)
+                .build();
+    }
+
+    // 커서: "거리:업체ID"를 URL-safe Base64로 인코딩 (거리는 반올림하지 않은 값)
+    private String encodeCursor(double distance, Long id) {
+        String raw = distance + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new Cursor(
+                    Double.parseDouble(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static final class Cursor {
+        private final double distance;
+        private final long id;
+
+        private Cursor(double distance, long id) {
+            this.distance = distance;
+            this.id = id;
+        }
+    }
+}
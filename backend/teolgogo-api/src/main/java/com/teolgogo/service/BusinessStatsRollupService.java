@@ -0,0 +1,244 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.BusinessStatsCounter;
+import com.teolgogo.entity.Payment;
+import com.teolgogo.entity.QuoteRequest;
+import com.teolgogo.entity.QuoteResponse;
+import com.teolgogo.repository.BusinessStatsCounterRepository;
+import com.teolgogo.repository.PaymentRepository;
+import com.teolgogo.repository.QuoteResponseRepository;
+import com.teolgogo.repository.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 업체 통계 누적 카운터 관리
+ * 견적 제안/수락, 결제 완료/취소, 리뷰 작성/수정/삭제 시점에 호출되어 호출한 트랜잭션 안에서 카운터를 증감
+ */
+@Service
+public class BusinessStatsRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessStatsRollupService.class);
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String NO_BUCKET = "";
+
+    private final BusinessStatsCounterRepository counterRepository;
+    private final QuoteResponseRepository quoteResponseRepository;
+    private final PaymentRepository paymentRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Autowired
+    public BusinessStatsRollupService(
+            BusinessStatsCounterRepository counterRepository,
+            QuoteResponseRepository quoteResponseRepository,
+            PaymentRepository paymentRepository,
+            ReviewRepository reviewRepository) {
+        this.counterRepository = counterRepository;
+        this.quoteResponseRepository = quoteResponseRepository;
+        this.paymentRepository = paymentRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    /**
+     * 견적 제안 생성
+     */
+    @Transactional
+    public void recordOfferCreated(QuoteResponse offer) {
+        Long businessId = offer.getBusiness().getId();
+        increment(businessId, BusinessStatsCounter.Metric.OFFERS, NO_BUCKET, 1);
+
+        LocalDateTime requestedAt = offer.getQuoteRequest().getCreatedAt();
+        if (requestedAt != null) {
+            increment(businessId, BusinessStatsCounter.Metric.REQUESTS_BY_DAY, dayBucket(requestedAt), 1);
+            increment(businessId, BusinessStatsCounter.Metric.REQUESTS_BY_HOUR, hourBucket(requestedAt), 1);
+        }
+    }
+
+    /**
+     * 견적 제안 수락 (수락 상태로 바뀌는 시점에만 호출)
+     */
+    @Transactional
+    public void recordOfferAccepted(QuoteResponse offer) {
+        increment(offer.getBusiness().getId(), BusinessStatsCounter.Metric.ACCEPTED_OFFERS, NO_BUCKET, 1);
+    }
+
+    /**
+     * 결제 완료 (DONE 상태로 바뀌는 시점에만 호출)
+     */
+    @Transactional
+    public void recordPaymentCompleted(Payment payment) {
+        applyPayment(payment, 1);
+    }
+
+    /**
+     * 결제 완료 건 취소
+     */
+    @Transactional
+    public void recordPaymentCanceled(Payment payment) {
+        applyPayment(payment, -1);
+    }
+
+    /**
+     * 리뷰 작성
+     */
+    @Transactional
+    public void recordReviewCreated(Long businessId, Integer rating, Collection<String> tags) {
+        applyReview(businessId, rating, tags, 1);
+    }
+
+    /**
+     * 리뷰 수정 (이전 평점/태그를 빼고 새 값을 더함)
+     */
+    @Transactional
+    public void recordReviewUpdated(Long businessId, Integer oldRating, Collection<String> oldTags,
+                                    Integer newRating, Collection<String> newTags) {
+        applyReview(businessId, oldRating, oldTags, -1);
+        applyReview(businessId, newRating, newTags, 1);
+    }
+
+    /**
+     * 리뷰 삭제
+     */
+    @Transactional
+    public void recordReviewDeleted(Long businessId, Integer rating, Collection<String> tags) {
+        applyReview(businessId, rating, tags, -1);
+    }
+
+    /**
+     * 업체의 카운터 조회
+     * 카운터가 도입되기 전의 데이터는 최초 조회 시 한 번만 집계해서 채움
+     */
+    @Transactional
+    public Map<BusinessStatsCounter.Metric, Map<String, Long>> getCounters(Long businessId) {
+        if (!counterRepository.existsByBusinessIdAndMetric(businessId, BusinessStatsCounter.Metric.INITIALIZED)
+                && counterRepository.insertInitializedMarker(businessId) > 0) {
+            rebuild(businessId);
+        }
+
+        Map<BusinessStatsCounter.Metric, Map<String, Long>> counters = new EnumMap<>(BusinessStatsCounter.Metric.class);
+        for (BusinessStatsCounter counter : counterRepository.findByBusinessId(businessId)) {
+            counters.computeIfAbsent(counter.getMetric(), metric -> new HashMap<>())
+                    .put(counter.getBucket(), counter.getValue());
+        }
+        return counters;
+    }
+
+    /**
+     * 기존 견적/결제/리뷰 데이터로 카운터 재계산
+     */
+    private void rebuild(Long businessId) {
+        counterRepository.deleteCountersByBusinessId(businessId);
+
+        Map<BusinessStatsCounter.Metric, Map<String, Long>> totals = new EnumMap<>(BusinessStatsCounter.Metric.class);
+
+        for (Object[] row : quoteResponseRepository.findStatusAndRequestCreatedAtByBusinessId(businessId)) {
+            QuoteResponse.ResponseStatus status = (QuoteResponse.ResponseStatus) row[0];
+            LocalDateTime requestedAt = (LocalDateTime) row[1];
+
+            add(totals, BusinessStatsCounter.Metric.OFFERS, NO_BUCKET, 1);
+            if (status == QuoteResponse.ResponseStatus.ACCEPTED) {
+                add(totals, BusinessStatsCounter.Metric.ACCEPTED_OFFERS, NO_BUCKET, 1);
+            }
+            if (requestedAt != null) {
+                add(totals, BusinessStatsCounter.Metric.REQUESTS_BY_DAY, dayBucket(requestedAt), 1);
+                add(totals, BusinessStatsCounter.Metric.REQUESTS_BY_HOUR, hourBucket(requestedAt), 1);
+            }
+        }
+
+        for (Object[] row : paymentRepository.findRevenueRowsByBusinessIdAndStatus(businessId, Payment.PaymentStatus.DONE)) {
+            long amount = row[0] != null ? ((Integer) row[0]).longValue() : 0L;
+            LocalDateTime paidAt = (LocalDateTime) row[1];
+            QuoteRequest.ServiceType serviceType = (QuoteRequest.ServiceType) row[2];
+
+            add(totals, BusinessStatsCounter.Metric.COMPLETED_PAYMENTS, NO_BUCKET, 1);
+            add(totals, BusinessStatsCounter.Metric.REVENUE, NO_BUCKET, amount);
+            if (paidAt != null) {
+                add(totals, BusinessStatsCounter.Metric.REVENUE_BY_MONTH, paidAt.format(MONTH_FORMATTER), amount);
+            }
+            if (serviceType != null) {
+                add(totals, BusinessStatsCounter.Metric.REVENUE_BY_SERVICE, serviceType.getDisplayName(), amount);
+            }
+        }
+
+        for (Object[] row : reviewRepository.countByRatingForBusiness(businessId)) {
+            Integer rating = (Integer) row[0];
+            long count = (Long) row[1];
+            if (rating == null) {
+                continue;
+            }
+            add(totals, BusinessStatsCounter.Metric.REVIEWS, NO_BUCKET, count);
+            add(totals, BusinessStatsCounter.Metric.RATING_SUM, NO_BUCKET, rating * count);
+            add(totals, BusinessStatsCounter.Metric.RATING_DISTRIBUTION, String.valueOf(rating), count);
+        }
+
+        for (Object[] row : reviewRepository.countByTagForBusiness(businessId)) {
+            add(totals, BusinessStatsCounter.Metric.TAGS, (String) row[0], (Long) row[1]);
+        }
+
+        totals.forEach((metric, buckets) ->
+                buckets.forEach((bucket, value) -> increment(businessId, metric, bucket, value)));
+
+        logger.info("업체 통계 카운터 초기 집계 완료: businessId={}", businessId);
+    }
+
+    private void applyPayment(Payment payment, int sign) {
+        Long businessId = payment.getBusiness().getId();
+        long amount = payment.getAmount() != null ? payment.getAmount() : 0L;
+
+        increment(businessId, BusinessStatsCounter.Metric.COMPLETED_PAYMENTS, NO_BUCKET, sign);
+        increment(businessId, BusinessStatsCounter.Metric.REVENUE, NO_BUCKET, sign * amount);
+        if (payment.getPaidAt() != null) {
+            increment(businessId, BusinessStatsCounter.Metric.REVENUE_BY_MONTH,
+                    payment.getPaidAt().format(MONTH_FORMATTER), sign * amount);
+        }
+
+        QuoteRequest request = payment.getQuoteResponse().getQuoteRequest();
+        if (request.getServiceType() != null) {
+            increment(businessId, BusinessStatsCounter.Metric.REVENUE_BY_SERVICE,
+                    request.getServiceType().getDisplayName(), sign * amount);
+        }
+    }
+
+    private void applyReview(Long businessId, Integer rating, Collection<String> tags, int sign) {
+        if (rating != null) {
+            increment(businessId, BusinessStatsCounter.Metric.REVIEWS, NO_BUCKET, sign);
+            increment(businessId, BusinessStatsCounter.Metric.RATING_SUM, NO_BUCKET, (long) sign * rating);
+            increment(businessId, BusinessStatsCounter.Metric.RATING_DISTRIBUTION, String.valueOf(rating), sign);
+        }
+        if (tags != null) {
+            for (String tag : tags) {
+                increment(businessId, BusinessStatsCounter.Metric.TAGS, tag, sign);
+            }
+        }
+    }
+
+    private void increment(Long businessId, BusinessStatsCounter.Metric metric, String bucket, long delta) {
+        if (delta != 0) {
+            counterRepository.increment(businessId, metric, bucket, delta);
+        }
+    }
+
+    private static void add(Map<BusinessStatsCounter.Metric, Map<String, Long>> totals,
+                            BusinessStatsCounter.Metric metric, String bucket, long delta) {
+        totals.computeIfAbsent(metric, key -> new HashMap<>()).merge(bucket, delta, Long::sum);
+    }
+
+    private static String dayBucket(LocalDateTime dateTime) {
+        return dateTime.getDayOfWeek().toString();
+    }
+
+    private static String hourBucket(LocalDateTime dateTime) {
+        return dateTime.getHour() + "시";
+    }
+}
@@ -0,0 +1,361 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.PushSubscription;
+import com.teolgogo.entity.User;
+import com.teolgogo.repository.PushSubscriptionRepository;
+import com.teolgogo.util.GeoGridIndex;
+import com.teolgogo.util.GeoUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림을 받는 업체의 푸시 구독 위치 인덱스
+ * 견적 요청이 들어올 때마다 구독 전체에 거리 계산을 하지 않고 주변 셀의 구독만 조회
+ * 구독/구독 취소, 업체 프로필(위치, 알림 설정) 변경 시 커밋 이후에 반영
+ *
+ * 커밋 이후 반영은 변경을 처리한 서버에만 적용되므로 주기적으로 DB에서 다시 적재해 다른 서버의 변경을 따라감
+ * 마지막 적재가 max-staleness보다 오래되었으면(적재 실패 등) 인덱스 대신 DB에서 경계 상자로 조회
+ */
+@Component
+public class BusinessSubscriptionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessSubscriptionRegistry.class);
+
+    private final PushSubscriptionRepository pushSubscriptionRepository;
+    private final double cellSizeDegrees;
+    private final long refreshIntervalSeconds;
+    private final long maxStalenessMillis;
+
+    // 구독 ID -> 업체 ID와 구독 스냅샷 (위치는 업체 위치), 다시 적재할 때 통째로 교체
+    private volatile GeoGridIndex<Entry> index;
+
+    // 업체 ID -> 구독 ID
+    private volatile Map<Long, Set<Long>> subscriptionsByBusiness = new ConcurrentHashMap<>();
+
+    // 격리된 구독 ID -> 격리 해제 시각 (해제 시각이 지나면 다시 조회 대상)
+    private volatile Map<Long, LocalDateTime> quarantinedUntil = new ConcurrentHashMap<>();
+
+    // 다시 적재하는 동안 반영된 변경 (교체한 인덱스에 다시 적용), 적재 중이 아니면 null
+    private final Object changeLock = new Object();
+    private List<Runnable> changesDuringLoad;
+
+    private volatile long loadedAtMillis = 0;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public BusinessSubscriptionRegistry(
+            PushSubscriptionRepository pushSubscriptionRepository,
+            @Value("${app.geo.cell-size-degrees:0.05}") double cellSizeDegrees,
+            @Value("${app.push.registry.refresh-interval-seconds:60}") long refreshIntervalSeconds,
+            @Value("${app.push.registry.max-staleness-seconds:300}") long maxStalenessSeconds) {
+        this.pushSubscriptionRepository = pushSubscriptionRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+        this.maxStalenessMillis = TimeUnit.SECONDS.toMillis(maxStalenessSeconds);
+        this.index = new GeoGridIndex<>(cellSizeDegrees);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "push-subscription-registry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::loadQuietly,
+                refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 알림을 받는 업체의 구독 적재 (애플리케이션 시작 시, 이후 주기적으로)
+     * 새 인덱스를 만든 뒤 교체하므로 적재 중에도 기존 인덱스로 조회 가능
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        synchronized (changeLock) {
+            changesDuringLoad = new ArrayList<>();
+        }
+
+        GeoGridIndex<Entry> newIndex = new GeoGridIndex<>(cellSizeDegrees);
+        Map<Long, Set<Long>> newSubscriptionsByBusiness = new ConcurrentHashMap<>();
+        Map<Long, LocalDateTime> newQuarantinedUntil = new ConcurrentHashMap<>();
+        try {
+            for (Object[] row : pushSubscriptionRepository.findNotifiableLocatedSubscriptions(User.Role.BUSINESS)) {
+                put(newIndex, newSubscriptionsByBusiness, (Long) row[0], (String) row[1], (String) row[2],
+                        (String) row[3], (Long) row[4], (Double) row[5], (Double) row[6]);
+                if (row[7] != null) {
+                    newQuarantinedUntil.put((Long) row[0], (LocalDateTime) row[7]);
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                changesDuringLoad = null;
+            }
+            throw e;
+        }
+
+        synchronized (changeLock) {
+            index = newIndex;
+            subscriptionsByBusiness = newSubscriptionsByBusiness;
+            quarantinedUntil = newQuarantinedUntil;
+            // 조회 이후에 커밋된 이 서버의 변경이 빠지지 않도록 다시 적용 (같은 변경을 두 번 적용해도 결과는 같음)
+            changesDuringLoad.forEach(Runnable::run);
+            changesDuringLoad = null;
+        }
+        loadedAtMillis = System.currentTimeMillis();
+        logger.debug("업체 푸시 구독 위치 인덱스 적재 완료: {}건", newIndex.size());
+    }
+
+    private void loadQuietly() {
+        try {
+            load();
+        } catch (Exception e) {
+            logger.error("업체 푸시 구독 위치 인덱스 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 반경(km) 내 업체별 구독 조회 (가까운 업체 순, 격리된 구독 제외)
+     */
+    public Map<Long, List<PushSubscription>> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        if (System.currentTimeMillis() - loadedAtMillis > maxStalenessMillis) {
+            return findWithinRadiusFromDatabase(latitude, longitude, radiusKm);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<PushSubscription>> byBusiness = new LinkedHashMap<>();
+        index.findWithinRadius(latitude, longitude, radiusKm,
+                entry -> !isQuarantined(entry.subscription.getId(), now)).forEach(result -> {
+            Entry entry = result.getContent();
+            byBusiness.computeIfAbsent(entry.businessId, id -> new ArrayList<>()).add(entry.subscription);
+        });
+        return byBusiness;
+    }
+
+    /**
+     * 인덱스가 오래되었을 때 DB에서 직접 조회 (경계 상자로 후보를 좁힌 뒤 반경 확인)
+     */
+    private Map<Long, List<PushSubscription>> findWithinRadiusFromDatabase(
+            double latitude, double longitude, double radiusKm) {
+        logger.warn("업체 푸시 구독 위치 인덱스가 오래되어 DB에서 조회합니다.");
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> rows = new ArrayList<>();
+        List<Double> distances = new ArrayList<>();
+        for (Object[] row : pushSubscriptionRepository.findNotifiableSubscriptionsWithinBox(User.Role.BUSINESS,
+                box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude())) {
+            LocalDateTime until = (LocalDateTime) row[7];
+            if (until != null && until.isAfter(now)) {
+                continue;
+            }
+            double distance = GeoUtils.distanceKm(latitude, longitude, (Double) row[5], (Double) row[6]);
+            if (distance <= radiusKm) {
+                rows.add(row);
+                distances.add(distance);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble(distances::get));
+
+        Map<Long, List<PushSubscription>> byBusiness = new LinkedHashMap<>();
+        for (int i : order) {
+            Object[] row = rows.get(i);
+            byBusiness.computeIfAbsent((Long) row[4], id -> new ArrayList<>()).add(PushSubscription.builder()
+                    .id((Long) row[0])
+                    .endpoint((String) row[1])
+                    .p256dhKey((String) row[2])
+                    .authKey((String) row[3])
+                    .build());
+        }
+        return byBusiness;
+    }
+
+    /**
+     * 구독 추가/갱신 반영
+     */
+    public void subscribed(PushSubscription subscription) {
+        User user = subscription.getUser();
+        Long subscriptionId = subscription.getId();
+        String endpoint = subscription.getEndpoint();
+        String p256dhKey = subscription.getP256dhKey();
+        String authKey = subscription.getAuthKey();
+        Long userId = user.getId();
+        boolean notifiable = isNotifiable(user);
+        Double latitude = user.getLatitude();
+        Double longitude = user.getLongitude();
+
+        afterCommit(() -> {
+            // 다시 구독하면 발송 상태도 초기화됨
+            quarantinedUntil.remove(subscriptionId);
+            if (notifiable) {
+                put(subscriptionId, endpoint, p256dhKey, authKey, userId, latitude, longitude);
+            } else {
+                remove(subscriptionId, userId);
+            }
+        });
+    }
+
+    /**
+     * 구독 삭제 반영
+     */
+    public void unsubscribed(Long subscriptionId, Long userId) {
+        afterCommit(() -> {
+            remove(subscriptionId, userId);
+            quarantinedUntil.remove(subscriptionId);
+        });
+    }
+
+    /**
+     * 구독 격리 반영
+     */
+    public void quarantined(Long subscriptionId, LocalDateTime until) {
+        afterCommit(() -> quarantinedUntil.put(subscriptionId, until));
+    }
+
+    /**
+     * 구독 발송 성공 반영 (격리 해제)
+     */
+    public void recovered(Long subscriptionId) {
+        afterCommit(() -> quarantinedUntil.remove(subscriptionId));
+    }
+
+    private boolean isQuarantined(Long subscriptionId, LocalDateTime now) {
+        LocalDateTime until = quarantinedUntil.get(subscriptionId);
+        if (until == null) {
+            return false;
+        }
+        if (!until.isAfter(now)) {
+            quarantinedUntil.remove(subscriptionId, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 업체 프로필 변경 반영 (위치, 알림 설정이 바뀌면 해당 업체의 구독을 다시 적재)
+     */
+    public void updateBusiness(User user) {
+        Long userId = user.getId();
+        boolean notifiable = isNotifiable(user);
+        Double latitude = user.getLatitude();
+        Double longitude = user.getLongitude();
+
+        afterCommit(() -> {
+            removeBusiness(userId);
+            if (!notifiable) {
+                return;
+            }
+            for (PushSubscription subscription : pushSubscriptionRepository.findByUserId(userId)) {
+                put(subscription.getId(), subscription.getEndpoint(), subscription.getP256dhKey(),
+                        subscription.getAuthKey(), userId, latitude, longitude);
+            }
+        });
+    }
+
+    private void put(Long subscriptionId, String endpoint, String p256dhKey, String authKey,
+                     Long userId, Double latitude, Double longitude) {
+        put(index, subscriptionsByBusiness, subscriptionId, endpoint, p256dhKey, authKey, userId, latitude, longitude);
+    }
+
+    private static void put(GeoGridIndex<Entry> index, Map<Long, Set<Long>> subscriptionsByBusiness,
+                            Long subscriptionId, String endpoint, String p256dhKey, String authKey,
+                            Long userId, Double latitude, Double longitude) {
+        PushSubscription snapshot = PushSubscription.builder()
+                .id(subscriptionId)
+                .endpoint(endpoint)
+                .p256dhKey(p256dhKey)
+                .authKey(authKey)
+                .build();
+        index.put(subscriptionId, latitude, longitude, new Entry(userId, snapshot));
+        subscriptionsByBusiness.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriptionId);
+    }
+
+    private void remove(Long subscriptionId, Long userId) {
+        index.remove(subscriptionId);
+        if (userId != null) {
+            subscriptionsByBusiness.computeIfPresent(userId, (id, ids) -> {
+                ids.remove(subscriptionId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private void removeBusiness(Long userId) {
+        Set<Long> ids = subscriptionsByBusiness.remove(userId);
+        if (ids != null) {
+            ids.forEach(index::remove);
+        }
+    }
+
+    private static boolean isNotifiable(User user) {
+        return user.getRole() == User.Role.BUSINESS && user.isNotificationEnabled()
+                && user.getLatitude() != null && user.getLongitude() != null;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> applyChange(change);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private void applyChange(Runnable change) {
+        synchronized (changeLock) {
+            change.run();
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Long businessId;
+        private final PushSubscription subscription;
+
+        private Entry(Long businessId, PushSubscription subscription) {
+            this.businessId = businessId;
+            this.subscription = subscription;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.ChatMessage;
+import com.teolgogo.repository.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 할당 (app.chat.write-behind.enabled=true일 때만 사용)
+ * 일괄 저장은 저장 전에 ID가 필요하므로, 이 설정이 켜져 있으면 동기 저장 경로도 같은 시퀀스에서 ID를 받음
+ * 시퀀스는 1씩 증가하고 캐시하지 않으므로 여러 서버가 함께 써도 보낸 순서대로 ID가 커짐
+ * (keyset 페이징, 마지막 메시지 요약, 읽음 위치가 모두 ID 순서에 의존)
+ *
+ * 설정이 꺼져 있으면 기존처럼 AUTO_INCREMENT로 채번하고 시퀀스는 만들지 않음
+ * 같은 DB를 쓰는 서버는 모두 같은 설정이어야 함 (섞이면 AUTO_INCREMENT와 시퀀스가 같은 ID를 낼 수 있음)
+ */
+@Component
+public class ChatMessageIdAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatMessageIdAllocator.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    // ChatMessageRepository는 JPA(스키마 갱신) 초기화 이후에 시퀀스를 다루도록 의존성으로만 받음
+    @Autowired
+    public ChatMessageIdAllocator(
+            JdbcTemplate jdbcTemplate,
+            ChatMessageRepository chatMessageRepository,
+            @Value("${app.chat.write-behind.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 시퀀스가 기존 메시지 ID보다 뒤에서 시작하도록 맞춤 (AUTO_INCREMENT로 저장된 기존 데이터 대응)
+     * 다른 서버가 이미 사용 중일 수 있으므로 값은 앞으로만 옮김
+     */
+    @PostConstruct
+    public void alignSequence() {
+        if (!enabled) {
+            return;
+        }
+
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + ChatMessage.ID_SEQUENCE +
+                " START WITH 1 INCREMENT BY 1 NOCACHE");
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM chat_messages", Long.class);
+        // SETVAL은 마지막으로 사용한 값을 지정하므로 다음 ID는 max(id)+1 또는 현재 다음 값 중 큰 쪽
+        jdbcTemplate.queryForObject("SELECT SETVAL(" + ChatMessage.ID_SEQUENCE + ", GREATEST(?, " +
+                "(SELECT next_not_cached_value - 1 FROM " + ChatMessage.ID_SEQUENCE + ")))",
+                Long.class, maxId != null ? maxId : 0);
+
+        logger.info("채팅 메시지 ID 시퀀스 확인 완료 (기존 최대 ID: {})", maxId);
+    }
+
+    /**
+     * 다음 메시지 ID
+     */
+    public long nextId() {
+        if (!enabled) {
+            throw new IllegalStateException("채팅 메시지 일괄 저장이 꺼져 있어 ID 시퀀스를 사용하지 않습니다.");
+        }
+        Long id = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + ChatMessage.ID_SEQUENCE, Long.class);
+        if (id == null) {
+            throw new IllegalStateException("채팅 메시지 ID를 할당하지 못했습니다.");
+        }
+        return id;
+    }
+}
@@ -0,0 +1,252 @@
+package com.teolgogo.service;
+
+import com.teolgogo.dto.ChatMessageDTO;
+import com.teolgogo.entity.ChatRoom;
+import com.teolgogo.repository.ChatRoomRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 채팅 메시지 지연 일괄 저장 (app.chat.write-behind.enabled=true일 때만 사용)
+ * 참여자 캐시로 권한을 확인하고 ID를 미리 할당해 큐에 넣은 뒤,
+ * 주기적으로 chat_messages에 JDBC 배치로 저장하고 채팅방 요약은 채팅방별로 한 번만 갱신
+ *
+ * durability
+ *  - BUFFERED: 큐에 넣는 즉시 브로드캐스트 (서버가 비정상 종료되면 마지막 저장 주기 동안의 메시지 유실 가능)
+ *  - COMMITTED: 배치가 커밋된 후 브로드캐스트 (저장 주기만큼 지연되지만 DB 부하는 배치로 줄어듦)
+ * 큐가 가득 차면 기존 동기 저장으로 처리
+ */
+@Component
+public class ChatMessageWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatMessageWriteBehind.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (id, chat_room_id, sender_id, content, is_read, `timestamp`) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    public enum Durability {
+        BUFFERED, COMMITTED
+    }
+
+    private final ChatService chatService;
+    private final ChatRoomRosterCache rosterCache;
+    private final ChatMessageIdAllocator idAllocator;
+    private final ChatRoomRepository chatRoomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final boolean enabled;
+    private final Durability durability;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<ChatMessageDTO> queue;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ChatMessageWriteBehind(
+            ChatService chatService,
+            ChatRoomRosterCache rosterCache,
+            ChatMessageIdAllocator idAllocator,
+            ChatRoomRepository chatRoomRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${app.chat.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.chat.write-behind.durability:BUFFERED}") Durability durability,
+            @Value("${app.chat.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.chat.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.chat.write-behind.flush-interval-ms:100}") long flushIntervalMillis) {
+        this.chatService = chatService;
+        this.rosterCache = rosterCache;
+        this.idAllocator = idAllocator;
+        this.chatRoomRepository = chatRoomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.enabled = enabled;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("채팅 메시지 일괄 저장 사용 (durability: {}, batch: {}, interval: {}ms)",
+                durability, batchSize, flushIntervalMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 메시지 접수
+     * 권한 확인과 ID 할당만 하고 저장은 다음 저장 주기에 수행
+     */
+    public void submit(Long roomId, ChatMessageDTO messageDTO) {
+        ChatRoomRosterCache.Roster roster = rosterCache.get(roomId);
+        Long senderId = messageDTO.getSenderId();
+        if (senderId == null || !roster.isParticipant(senderId)) {
+            throw new AccessDeniedException("해당 채팅방에 메시지를 보낼 권한이 없습니다.");
+        }
+
+        ChatMessageDTO message = ChatMessageDTO.builder()
+                .id(idAllocator.nextId())
+                .roomId(roomId)
+                .senderId(senderId)
+                .senderName(roster.nameOf(senderId))
+                .content(messageDTO.getContent())
+                .sentAt(LocalDateTime.now())
+                .read(false)
+                .build();
+
+        if (!queue.offer(message)) {
+            // 큐가 가득 차면 동기 저장
+            ChatMessageDTO savedMessage = chatService.saveMessage(messageDTO);
+            messagingTemplate.convertAndSend("/topic/chat/" + roomId, savedMessage);
+            return;
+        }
+
+        if (durability == Durability.BUFFERED) {
+            messagingTemplate.convertAndSend("/topic/chat/" + roomId, message);
+        }
+    }
+
+    /**
+     * 대기 중인 메시지를 모두 저장 (읽음 처리 등 저장된 메시지가 필요한 작업 전에 호출)
+     */
+    public synchronized void flush() {
+        List<ChatMessageDTO> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error("채팅 메시지 일괄 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void write(List<ChatMessageDTO> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+        } catch (Exception e) {
+            // 문제가 된 메시지만 빠지도록 한 건씩 다시 저장
+            logger.warn("채팅 메시지 배치 저장 실패, 개별 저장으로 재시도: {}", e.getMessage());
+            List<ChatMessageDTO> written = new ArrayList<>();
+            for (ChatMessageDTO message : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(message)));
+                    written.add(message);
+                } catch (Exception single) {
+                    logger.error("채팅 메시지 저장 실패: id={}, roomId={}, {}",
+                            message.getId(), message.getRoomId(), single.getMessage());
+                }
+            }
+            broadcastCommitted(written);
+            return;
+        }
+        broadcastCommitted(batch);
+    }
+
+    private void insert(List<ChatMessageDTO> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setLong(2, message.getRoomId());
+            ps.setLong(3, message.getSenderId());
+            ps.setString(4, message.getContent());
+            ps.setBoolean(5, false);
+            ps.setTimestamp(6, Timestamp.valueOf(message.getSentAt()));
+        });
+
+        // 채팅방별 요약은 마지막 메시지 기준으로 한 번만 갱신
+        Map<Long, RoomDelta> deltas = new LinkedHashMap<>();
+        for (ChatMessageDTO message : batch) {
+            RoomDelta delta = deltas.computeIfAbsent(message.getRoomId(), id -> new RoomDelta());
+            if (delta.last == null || delta.last.getId() < message.getId()) {
+                delta.last = message;
+            }
+            if (rosterCache.get(message.getRoomId()).isCustomer(message.getSenderId())) {
+                delta.businessUnread++;
+            } else {
+                delta.customerUnread++;
+            }
+        }
+
+        deltas.forEach((roomId, delta) -> chatRoomRepository.applyNewMessage(
+                roomId,
+                delta.last.getId(),
+                ChatRoom.preview(delta.last.getContent()),
+                delta.last.getSentAt(),
+                delta.customerUnread,
+                delta.businessUnread));
+    }
+
+    private void broadcastCommitted(List<ChatMessageDTO> messages) {
+        if (durability != Durability.COMMITTED) {
+            return;
+        }
+        for (ChatMessageDTO message : messages) {
+            messagingTemplate.convertAndSend("/topic/chat/" + message.getRoomId(), message);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전에 남은 메시지 저장
+        flushQuietly();
+    }
+
+    private static final class RoomDelta {
+        private ChatMessageDTO last;
+        private int customerUnread;
+        private int businessUnread;
+    }
+}
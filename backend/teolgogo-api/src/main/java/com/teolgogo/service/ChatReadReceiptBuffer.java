@@ -0,0 +1,105 @@
+package com.teolgogo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방별 읽음 처리 요청 모음
+ * 짧은 시간 안에 들어온 읽음 요청을 합쳐 한 번만 DB에 반영하고 결과를 한 번 브로드캐스트
+ */
+@Component
+public class ChatReadReceiptBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatReadReceiptBuffer.class);
+
+    private final ChatService chatService;
+    private final ChatMessageWriteBehind messageWriteBehind;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long flushDelayMillis;
+
+    // 채팅방 ID -> 반영 대기 중인 메시지 ID
+    private final Map<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-read-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ChatReadReceiptBuffer(
+            ChatService chatService,
+            ChatMessageWriteBehind messageWriteBehind,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${app.chat.read-flush-delay-ms:200}") long flushDelayMillis) {
+        this.chatService = chatService;
+        this.messageWriteBehind = messageWriteBehind;
+        this.messagingTemplate = messagingTemplate;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    /**
+     * 읽음 요청 추가 (채팅방의 첫 요청이면 반영 예약)
+     */
+    public void add(Long roomId, List<Long> messageIds) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return;
+        }
+
+        boolean[] first = {false};
+        pending.compute(roomId, (key, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+                first[0] = true;
+            }
+            ids.addAll(messageIds);
+            return ids;
+        });
+
+        if (first[0]) {
+            scheduler.schedule(() -> flush(roomId), flushDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Long roomId) {
+        Set<Long> messageIds = pending.remove(roomId);
+        if (messageIds == null || messageIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 아직 저장되지 않은 메시지도 읽음 처리 대상이 되도록 먼저 저장
+            if (messageWriteBehind.isEnabled()) {
+                messageWriteBehind.flush();
+            }
+            List<Long> readIds = chatService.markMessagesAsRead(roomId, messageIds);
+            if (!readIds.isEmpty()) {
+                messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/read", Map.of("messageIds", readIds));
+            }
+        } catch (Exception e) {
+            logger.error("읽음 처리 반영 실패: roomId={}, {}", roomId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 요청을 반영하고 종료
+        for (Long roomId : pending.keySet()) {
+            flush(roomId);
+        }
+        scheduler.shutdownNow();
+    }
+}
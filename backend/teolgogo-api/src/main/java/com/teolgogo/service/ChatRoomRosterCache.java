@@ -0,0 +1,103 @@
+package com.teolgogo.service;
+
+import com.teolgogo.repository.ChatRoomRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 참여자 캐시
+ * 채팅방의 고객/업체는 생성 후 바뀌지 않으므로 메시지마다 채팅방과 사용자를 조회하지 않고 권한을 확인
+ */
+@Component
+public class ChatRoomRosterCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Map<Long, Roster> rosters;
+
+    @Autowired
+    public ChatRoomRosterCache(
+            ChatRoomRepository chatRoomRepository,
+            @Value("${app.chat.roster-cache-size:10000}") int maxSize) {
+        this.chatRoomRepository = chatRoomRepository;
+        // 접근 순서 기준으로 오래 사용하지 않은 채팅방부터 제거
+        this.rosters = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Roster> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 채팅방 참여자 조회 (없으면 DB에서 적재)
+     */
+    public Roster get(Long roomId) {
+        synchronized (rosters) {
+            Roster roster = rosters.get(roomId);
+            if (roster != null) {
+                return roster;
+            }
+        }
+
+        List<Object[]> rows = chatRoomRepository.findParticipantsById(roomId);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("채팅방을 찾을 수 없습니다.");
+        }
+        Object[] row = rows.get(0);
+        Roster roster = new Roster((Long) row[0], (String) row[1], (Long) row[2], (String) row[3]);
+
+        synchronized (rosters) {
+            rosters.put(roomId, roster);
+        }
+        return roster;
+    }
+
+    public void evict(Long roomId) {
+        synchronized (rosters) {
+            rosters.remove(roomId);
+        }
+    }
+
+    /**
+     * 채팅방 참여자 정보
+     */
+    public static final class Roster {
+        private final Long customerId;
+        private final String customerName;
+        private final Long businessId;
+        private final String businessName;
+
+        private Roster(Long customerId, String customerName, Long businessId, String businessName) {
+            this.customerId = customerId;
+            this.customerName = customerName;
+            this.businessId = businessId;
+            this.businessName = businessName;
+        }
+
+        public boolean isParticipant(Long userId) {
+            return customerId.equals(userId) || businessId.equals(userId);
+        }
+
+        public boolean isCustomer(Long userId) {
+            return customerId.equals(userId);
+        }
+
+        public String nameOf(Long userId) {
+            return isCustomer(userId) ? customerName : businessName;
+        }
+
+        public Long getCustomerId() {
+            return customerId;
+        }
+
+        public Long getBusinessId() {
+            return businessId;
+        }
+    }
+}
@@ -10,13 +10,22 @@ import com.teolgogo.repository.ChatMessageRepository;
 import com.teolgogo.repository.ChatRoomRepository;
 import com.teolgogo.repository.QuoteRequestRepository;
 import com.teolgogo.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,32 +35,63 @@ import java.util.stream.Collectors;
 @Service
 public class ChatService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ChatService.class);
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final QuoteRequestRepository quoteRequestRepository;
     private final UserRepository userRepository;
+    private final ChatMessageIdAllocator idAllocator;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     @Autowired
     public ChatService(
             ChatRoomRepository chatRoomRepository,
             ChatMessageRepository chatMessageRepository,
             QuoteRequestRepository quoteRequestRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            ChatMessageIdAllocator idAllocator,
+            @Value("${app.chat.history-page-size:30}") int defaultPageSize,
+            @Value("${app.chat.history-max-page-size:100}") int maxPageSize) {
         this.chatRoomRepository = chatRoomRepository;
         this.chatMessageRepository = chatMessageRepository;
         this.quoteRequestRepository = quoteRequestRepository;
         this.userRepository = userRepository;
+        this.idAllocator = idAllocator;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * 요약 정보가 없는 기존 채팅방의 마지막 메시지/안 읽은 메시지 수 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillRoomSummaries() {
+        int updated = chatRoomRepository.backfillSummaries();
+        chatRoomRepository.backfillPreviews();
+        if (updated > 0) {
+            logger.info("채팅방 요약 정보 채움: {}건", updated);
+        }
     }
 
-    // 사용자의 채팅방 목록 조회
+    // 사용자의 채팅방 목록 조회 (채팅방 테이블의 요약 정보만 사용)
     @Transactional(readOnly = true)
     public List<ChatRoomDTO> getChatRooms(Long userId) {
-        // 이 메서드는 ChatRoomRepository에 없으므로 대체 방법 사용
-        List<ChatRoom> chatRooms = chatRoomRepository.findByCustomerId(userId);
-        chatRooms.addAll(chatRoomRepository.findByBusinessId(userId));
-
-        return chatRooms.stream()
-                .map(room -> convertToChatRoomDTO(room, userId))
+        return chatRoomRepository.findSummariesByParticipantId(userId).stream()
+                .map(row -> ChatRoomDTO.builder()
+                        .id((Long) row[0])
+                        .quoteRequestId((Long) row[1])
+                        .customerId((Long) row[2])
+                        .customerName((String) row[3])
+                        .businessId((Long) row[4])
+                        .businessName((String) row[5])
+                        .lastMessageTime((LocalDateTime) row[6])
+                        .lastMessageId((Long) row[7])
+                        .lastMessageContent((String) row[8])
+                        .unreadCount(((Number) row[9]).intValue())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -64,26 +104,11 @@ public class ChatService {
         dto.setBusinessId(room.getBusiness().getId());
         dto.setBusinessName(room.getBusiness().getName());
         dto.setLastMessageTime(room.getLastActivityAt());
-
-        // 마지막 메시지 설정
-        if (!room.getMessages().isEmpty()) {
-            ChatMessage lastMessage = room.getMessages().stream()
-                    .sorted((m1, m2) -> m2.getTimestamp().compareTo(m1.getTimestamp()))
-                    .findFirst()
-                    .orElse(null);
-
-            if (lastMessage != null) {
-                dto.setLastMessageContent(lastMessage.getContent());
-            }
-        }
-
-        // 안 읽은 메시지 수 계산
-        long unreadCount = room.getMessages().stream()
-                .filter(message -> !message.isRead() && !message.getSender().getId().equals(userId))
-                .count();
-
-        dto.setUnreadCount((int) unreadCount);
-
+        dto.setLastMessageId(room.getLastMessageId());
+        dto.setLastMessageContent(room.getLastMessagePreview());
+        dto.setUnreadCount(room.getCustomer().getId().equals(userId)
+                ? room.getCustomerUnreadCount()
+                : room.getBusinessUnreadCount());
         return dto;
     }
 
@@ -94,21 +119,14 @@ public class ChatService {
                 .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
 
         // 접근 권한 확인
-        if (!chatRoom.getCustomer().getId().equals(userId) && !chatRoom.getBusiness().getId().equals(userId)) {
-            throw new AccessDeniedException("해당 채팅방에 접근할 권한이 없습니다.");
-        }
+        checkParticipant(chatRoom, userId);
 
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
         response.put("room", convertToChatRoomDTO(chatRoom, userId));
 
-        // 메시지 목록
-        List<ChatMessageDTO> messages = chatRoom.getMessages().stream()
-                .sorted((m1, m2) -> m1.getTimestamp().compareTo(m2.getTimestamp()))
-                .map(this::convertToChatMessageDTO)
-                .collect(Collectors.toList());
-
-        response.put("messages", messages);
+        // 최신 메시지 한 페이지만 포함 (이전 메시지는 getMessages로 조회)
+        response.putAll(loadMessagePage(roomId, null, defaultPageSize));
 
         // 상대방 정보
         User otherUser = userId.equals(chatRoom.getCustomer().getId())
@@ -130,6 +148,52 @@ public class ChatService {
         return response;
     }
 
+    /**
+     * 채팅 메시지 이전 기록 조회 (키셋 페이지네이션)
+     * beforeId보다 작은 ID의 메시지를 최대 limit개, 오래된 순으로 반환
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getMessages(Long userId, Long roomId, Long beforeId, Integer limit) {
+        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
+
+        checkParticipant(chatRoom, userId);
+
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, maxPageSize)) : defaultPageSize;
+        return loadMessagePage(roomId, beforeId, pageSize);
+    }
+
+    // 메시지 한 페이지 조회 (다음 페이지 존재 여부 확인을 위해 하나 더 조회)
+    private Map<String, Object> loadMessagePage(Long roomId, Long beforeId, int pageSize) {
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<ChatMessage> page = beforeId != null
+                ? chatMessageRepository.findByChatRoomIdBefore(roomId, beforeId, pageRequest)
+                : chatMessageRepository.findLatestByChatRoomId(roomId, pageRequest);
+
+        boolean hasMore = page.size() > pageSize;
+        if (hasMore) {
+            page = page.subList(0, pageSize);
+        }
+
+        List<ChatMessageDTO> messages = page.stream()
+                .map(this::convertToChatMessageDTO)
+                .collect(Collectors.toList());
+        Collections.reverse(messages);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("messages", messages);
+        result.put("hasMore", hasMore);
+        result.put("nextBefore", hasMore && !messages.isEmpty() ? messages.get(0).getId() : null);
+        return result;
+    }
+
+    // 채팅방 참여자 확인
+    private void checkParticipant(ChatRoom chatRoom, Long userId) {
+        if (!chatRoom.getCustomer().getId().equals(userId) && !chatRoom.getBusiness().getId().equals(userId)) {
+            throw new AccessDeniedException("해당 채팅방에 접근할 권한이 없습니다.");
+        }
+    }
+
     private ChatMessageDTO convertToChatMessageDTO(ChatMessage message) {
         ChatMessageDTO dto = new ChatMessageDTO();
         dto.setId(message.getId());
@@ -185,7 +249,15 @@ public class ChatService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        chatMessageRepository.save(systemMessage);
+        ChatMessage savedSystemMessage = persistMessage(systemMessage);
+
+        // 새 채팅방이므로 요약 정보를 엔티티에 바로 반영
+        savedRoom.setLastMessageId(savedSystemMessage.getId());
+        savedRoom.setLastMessagePreview(ChatRoom.preview(savedSystemMessage.getContent()));
+        savedRoom.setLastActivityAt(savedSystemMessage.getTimestamp());
+        if (!savedSystemMessage.isRead()) {
+            savedRoom.setBusinessUnreadCount(savedRoom.getBusinessUnreadCount() + 1);
+        }
 
         return convertToChatRoomDTO(savedRoom, customerId);
     }
@@ -213,26 +285,97 @@ public class ChatService {
                 .isRead(false)
                 .build();
 
-        ChatMessage savedMessage = chatMessageRepository.save(message);
+        ChatMessage savedMessage = persistMessage(message);
 
-        // 채팅방 마지막 활동 시간 업데이트
-        chatRoom.updateLastActivity();
-        chatRoomRepository.save(chatRoom);
+        // 채팅방 요약 갱신 (마지막 메시지, 상대방의 안 읽은 메시지 수)
+        boolean fromCustomer = chatRoom.getCustomer().getId().equals(sender.getId());
+        chatRoomRepository.applyNewMessage(
+                chatRoom.getId(),
+                savedMessage.getId(),
+                ChatRoom.preview(savedMessage.getContent()),
+                savedMessage.getTimestamp(),
+                fromCustomer ? 0 : 1,
+                fromCustomer ? 1 : 0);
 
         return convertToChatMessageDTO(savedMessage);
     }
 
-    // 메시지 읽음 처리
+    /**
+     * 메시지 저장
+     * 일괄 저장을 사용하면 일괄 저장 경로와 같은 시퀀스에서 ID를 받아 저장 (ID 순서 = 보낸 순서 유지)
+     */
+    private ChatMessage persistMessage(ChatMessage message) {
+        if (!idAllocator.isEnabled()) {
+            return chatMessageRepository.save(message);
+        }
+        // JPA 저장과 같은 기본값 적용
+        message.prePersist();
+        message.setId(idAllocator.nextId());
+        chatMessageRepository.insertWithId(
+                message.getId(),
+                message.getChatRoom().getId(),
+                message.getSender().getId(),
+                message.getContent(),
+                message.isRead(),
+                message.getTimestamp());
+        return message;
+    }
+
+    /**
+     * 메시지 읽음 처리
+     * 전달된 ID 중 이 채팅방의 메시지만 인정하고, 수신자별로 가장 큰 ID까지를 읽음 위치로 삼아
+     * 그 이하의 상대방 메시지를 한 번의 UPDATE로 읽음 처리
+     *
+     * @return 이 채팅방에 속한 것으로 확인된 메시지 ID 목록
+     */
     @Transactional
-    public void markMessagesAsRead(Long roomId, List<Long> messageIds) {
+    public List<Long> markMessagesAsRead(Long roomId, Collection<Long> messageIds) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return List.of();
+        }
+
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
 
-        List<ChatMessage> messages = chatMessageRepository.findAllById(messageIds);
+        Long customerId = chatRoom.getCustomer().getId();
+        Long businessId = chatRoom.getBusiness().getId();
+
+        // 수신자별 읽음 위치 (고객이 보낸 메시지는 업체가, 업체가 보낸 메시지는 고객이 읽음)
+        List<Long> validIds = new ArrayList<>();
+        long customerReadUpTo = 0;
+        long businessReadUpTo = 0;
+        for (Object[] row : chatMessageRepository.findIdAndSenderByChatRoomIdAndIdIn(roomId, messageIds)) {
+            Long id = (Long) row[0];
+            validIds.add(id);
+            if (customerId.equals(row[1])) {
+                businessReadUpTo = Math.max(businessReadUpTo, id);
+            } else {
+                customerReadUpTo = Math.max(customerReadUpTo, id);
+            }
+        }
+
+        // 이미 읽음 위치 이하인 요청(재접속 시 재전송 등)은 UPDATE 없이 무시
+        int customerRead = 0;
+        int businessRead = 0;
+        if (customerReadUpTo > lastReadId(chatRoom.getCustomerLastReadMessageId())) {
+            customerRead = chatMessageRepository.markReadUpTo(roomId, businessId, customerReadUpTo);
+        } else {
+            customerReadUpTo = 0;
+        }
+        if (businessReadUpTo > lastReadId(chatRoom.getBusinessLastReadMessageId())) {
+            businessRead = chatMessageRepository.markReadUpTo(roomId, customerId, businessReadUpTo);
+        } else {
+            businessReadUpTo = 0;
+        }
+
+        if (customerReadUpTo > 0 || businessReadUpTo > 0) {
+            chatRoomRepository.applyRead(roomId, customerReadUpTo, businessReadUpTo, customerRead, businessRead);
+        }
+
+        return validIds;
+    }
 
-        messages.forEach(message -> {
-            message.setRead(true);
-            chatMessageRepository.save(message);
-        });
+    private static long lastReadId(Long lastReadMessageId) {
+        return lastReadMessageId != null ? lastReadMessageId : 0L;
     }
 }
\ No newline at end of file
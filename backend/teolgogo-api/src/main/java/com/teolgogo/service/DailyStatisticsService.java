@@ -0,0 +1,322 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.DailyStatistics;
+import com.teolgogo.entity.Payment;
+import com.teolgogo.entity.QuoteRequest;
+import com.teolgogo.repository.DailyStatisticsRepository;
+import com.teolgogo.repository.PaymentRepository;
+import com.teolgogo.repository.QuoteRequestRepository;
+import com.teolgogo.repository.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일 단위 집계 기반 기간별 통계
+ * 기간에 완전히 포함된 지난 날짜는 일별 집계를 합산하고,
+ * 오늘과 기간 경계의 일부 날짜만 원본 테이블에서 실시간으로 집계
+ */
+@Service
+public class DailyStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyStatisticsService.class);
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final PaymentRepository paymentRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate recomputeTransactionTemplate;
+
+    @Autowired
+    public DailyStatisticsService(
+            DailyStatisticsRepository dailyStatisticsRepository,
+            QuoteRequestRepository quoteRequestRepository,
+            PaymentRepository paymentRepository,
+            ReviewRepository reviewRepository,
+            TransactionTemplate transactionTemplate) {
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.quoteRequestRepository = quoteRequestRepository;
+        this.paymentRepository = paymentRepository;
+        this.reviewRepository = reviewRepository;
+        // 커밋 이후에 실행되므로 항상 새 트랜잭션 사용
+        this.recomputeTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.recomputeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 기간별 통계 조회 [startDate, endDate)
+     */
+    public Map<String, Object> getPeriodStatistics(LocalDateTime startDate, LocalDateTime endDate) {
+        DailyStatistics totals = emptyBucket(null);
+
+        if (startDate.isBefore(endDate)) {
+            // 기간에 완전히 포함되는 지난 날짜 범위
+            LocalDate firstFullDay = startDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                    ? startDate.toLocalDate()
+                    : startDate.toLocalDate().plusDays(1);
+            LocalDate lastFullDay = endDate.toLocalDate().minusDays(1);
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            if (lastFullDay.isAfter(yesterday)) {
+                lastFullDay = yesterday;
+            }
+
+            if (firstFullDay.isAfter(lastFullDay)) {
+                merge(totals, aggregateLive(startDate, endDate));
+            } else {
+                merge(totals, aggregateLive(startDate, firstFullDay.atStartOfDay()));
+                for (DailyStatistics bucket : loadBuckets(firstFullDay, lastFullDay)) {
+                    merge(totals, bucket);
+                }
+                merge(totals, aggregateLive(lastFullDay.plusDays(1).atStartOfDay(), endDate));
+            }
+        }
+
+        return toStatistics(totals);
+    }
+
+    /**
+     * 결제 완료/취소 시 지난 날짜 집계 보정 (결제 요청일 기준)
+     * 당일 결제는 실시간 집계 대상이라 보정할 집계가 없음
+     */
+    @Transactional
+    public void recordPaymentChange(Payment payment, int sign) {
+        if (payment.getCreatedAt() == null) {
+            return;
+        }
+        long amount = payment.getAmount() != null ? payment.getAmount() : 0L;
+        LocalDate date = payment.getCreatedAt().toLocalDate();
+        if (dailyStatisticsRepository.addPayments(date, sign, sign * amount) == 0) {
+            recomputeAfterCommit(date);
+        }
+    }
+
+    /**
+     * 리뷰 수정/삭제 시 지난 날짜 집계 보정 (리뷰 작성일 기준)
+     */
+    @Transactional
+    public void recordReviewChange(LocalDateTime reviewCreatedAt, long countDelta, long ratingSumDelta) {
+        if (reviewCreatedAt == null || (countDelta == 0 && ratingSumDelta == 0)) {
+            return;
+        }
+        LocalDate date = reviewCreatedAt.toLocalDate();
+        if (dailyStatisticsRepository.addReviews(date, countDelta, ratingSumDelta) == 0) {
+            recomputeAfterCommit(date);
+        }
+    }
+
+    /**
+     * 보정할 집계가 아직 없던 지난 날짜는 커밋 후 원본 테이블에서 다시 집계
+     * 조회 요청이 이 변경 전에 계산한 값을 그 사이에 저장했을 수 있으므로 덮어씀
+     */
+    private void recomputeAfterCommit(LocalDate date) {
+        if (!date.isBefore(LocalDate.now())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recompute(date);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recompute(date);
+            }
+        });
+    }
+
+    /**
+     * 날짜의 일별 집계를 행 잠금을 잡은 상태로 다시 계산해 저장
+     * 잠금을 잡은 뒤 계산하므로 동시에 들어온 다른 재계산이나 보정과 순서대로 처리됨
+     */
+    private void recompute(LocalDate date) {
+        try {
+            recomputeTransactionTemplate.executeWithoutResult(status -> {
+                dailyStatisticsRepository.insertEmptyIfAbsent(date);
+                dailyStatisticsRepository.findForUpdate(date).ifPresent(bucket -> {
+                    DailyStatistics computed = aggregateByDate(date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                            .getOrDefault(date, emptyBucket(date));
+                    bucket.setTotalRequests(computed.getTotalRequests());
+                    bucket.getRequestsByServiceType().clear();
+                    bucket.getRequestsByServiceType().putAll(computed.getRequestsByServiceType());
+                    bucket.setCompletedPayments(computed.getCompletedPayments());
+                    bucket.setRevenue(computed.getRevenue());
+                    bucket.setTotalReviews(computed.getTotalReviews());
+                    bucket.setRatingSum(computed.getRatingSum());
+                });
+            });
+        } catch (RuntimeException e) {
+            // 다시 집계하지 못하면 해당 날짜의 집계를 지워 다음 조회 때 원본에서 계산
+            logger.warn("일별 통계 재집계 실패: {} ({})", date, e.getMessage());
+            try {
+                recomputeTransactionTemplate.executeWithoutResult(status ->
+                        dailyStatisticsRepository.findForUpdate(date).ifPresent(dailyStatisticsRepository::delete));
+            } catch (RuntimeException ignored) {
+                logger.error("일별 통계 집계 삭제 실패: {}", date);
+            }
+        }
+    }
+
+    /**
+     * 일별 집계 조회, 없는 날짜는 원본 테이블에서 한 번에 집계해 저장
+     */
+    private List<DailyStatistics> loadBuckets(LocalDate from, LocalDate to) {
+        Map<LocalDate, DailyStatistics> buckets = new TreeMap<>();
+        for (DailyStatistics bucket : dailyStatisticsRepository.findWithServiceTypesBetween(from, to)) {
+            buckets.put(bucket.getStatDate(), bucket);
+        }
+
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (!buckets.containsKey(day)) {
+                if (firstMissing == null) {
+                    firstMissing = day;
+                }
+                lastMissing = day;
+            }
+        }
+
+        if (firstMissing != null) {
+            Map<LocalDate, DailyStatistics> computed = aggregateByDate(
+                    firstMissing.atStartOfDay(), lastMissing.plusDays(1).atStartOfDay());
+
+            List<DailyStatistics> created = new ArrayList<>();
+            for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+                if (!buckets.containsKey(day)) {
+                    DailyStatistics bucket = computed.getOrDefault(day, emptyBucket(day));
+                    buckets.put(day, bucket);
+                    created.add(bucket);
+                }
+            }
+
+            try {
+                dailyStatisticsRepository.saveAll(created);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 먼저 저장한 경우, 이번 응답은 계산한 값으로 처리
+                logger.debug("일별 통계 집계 저장 충돌: {}", e.getMessage());
+            }
+        }
+
+        return new ArrayList<>(buckets.values());
+    }
+
+    /**
+     * 원본 테이블에서 기간을 실시간 집계
+     */
+    private DailyStatistics aggregateLive(LocalDateTime start, LocalDateTime end) {
+        DailyStatistics totals = emptyBucket(null);
+        if (start.isBefore(end)) {
+            aggregateByDate(start, end).values().forEach(bucket -> merge(totals, bucket));
+        }
+        return totals;
+    }
+
+    /**
+     * 원본 테이블에서 날짜별로 집계 (테이블당 GROUP BY 쿼리 1회)
+     */
+    private Map<LocalDate, DailyStatistics> aggregateByDate(LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, DailyStatistics> buckets = new HashMap<>();
+
+        for (Object[] row : quoteRequestRepository.countGroupByDateAndServiceType(start, end)) {
+            DailyStatistics bucket = buckets.computeIfAbsent(toLocalDate(row[0]), this::emptyBucket);
+            long count = ((Number) row[2]).longValue();
+            bucket.setTotalRequests(bucket.getTotalRequests() + count);
+            if (row[1] != null) {
+                bucket.getRequestsByServiceType().merge(
+                        QuoteRequest.ServiceType.valueOf(row[1].toString()), count, Long::sum);
+            }
+        }
+
+        for (Object[] row : paymentRepository.sumCompletedGroupByDate(start, end)) {
+            DailyStatistics bucket = buckets.computeIfAbsent(toLocalDate(row[0]), this::emptyBucket);
+            bucket.setCompletedPayments(((Number) row[1]).longValue());
+            bucket.setRevenue(((Number) row[2]).longValue());
+        }
+
+        for (Object[] row : reviewRepository.sumRatingGroupByDate(start, end)) {
+            DailyStatistics bucket = buckets.computeIfAbsent(toLocalDate(row[0]), this::emptyBucket);
+            bucket.setTotalReviews(((Number) row[1]).longValue());
+            bucket.setRatingSum(((Number) row[2]).longValue());
+        }
+
+        return buckets;
+    }
+
+    private Map<String, Object> toStatistics(DailyStatistics totals) {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("totalRequests", (int) totals.getTotalRequests());
+        statistics.put("totalPayments", (int) totals.getCompletedPayments());
+        statistics.put("totalRevenue", (int) totals.getRevenue());
+
+        double averageRating = totals.getTotalReviews() == 0 ? 0
+                : (double) totals.getRatingSum() / totals.getTotalReviews();
+        statistics.put("totalReviews", (int) totals.getTotalReviews());
+        statistics.put("averageRating", Math.round(averageRating * 10) / 10.0);
+
+        // 기간 내 인기 서비스
+        Map<String, Integer> serviceTypeCount = new HashMap<>();
+        String popularService = "";
+        int maxCount = 0;
+        for (Map.Entry<QuoteRequest.ServiceType, Long> entry : totals.getRequestsByServiceType().entrySet()) {
+            int count = entry.getValue().intValue();
+            if (count <= 0) {
+                continue;
+            }
+            serviceTypeCount.put(entry.getKey().getDisplayName(), count);
+            if (count > maxCount) {
+                maxCount = count;
+                popularService = entry.getKey().getDisplayName();
+            }
+        }
+
+        statistics.put("popularService", popularService);
+        statistics.put("serviceTypeCount", serviceTypeCount);
+
+        return statistics;
+    }
+
+    private void merge(DailyStatistics target, DailyStatistics source) {
+        target.setTotalRequests(target.getTotalRequests() + source.getTotalRequests());
+        source.getRequestsByServiceType().forEach((serviceType, count) ->
+                target.getRequestsByServiceType().merge(serviceType, count, Long::sum));
+        target.setCompletedPayments(target.getCompletedPayments() + source.getCompletedPayments());
+        target.setRevenue(target.getRevenue() + source.getRevenue());
+        target.setTotalReviews(target.getTotalReviews() + source.getTotalReviews());
+        target.setRatingSum(target.getRatingSum() + source.getRatingSum());
+    }
+
+    private DailyStatistics emptyBucket(LocalDate date) {
+        return DailyStatistics.builder()
+                .statDate(date)
+                .requestsByServiceType(new EnumMap<>(QuoteRequest.ServiceType.class))
+                .build();
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+}
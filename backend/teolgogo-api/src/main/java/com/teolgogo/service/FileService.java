@@ -1,60 +1,142 @@
 package com.teolgogo.service;
 
+import com.teolgogo.config.FileStorageConfig;
 import com.teolgogo.entity.FileEntity;
 import com.teolgogo.entity.QuoteRequest;
 import com.teolgogo.entity.QuoteResponse;
 import com.teolgogo.entity.User;
+import com.teolgogo.repository.FileBlobRepository;
 import com.teolgogo.repository.FileRepository;
 import com.teolgogo.repository.QuoteRequestRepository;
 import com.teolgogo.repository.QuoteResponseRepository;
 import com.teolgogo.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class FileService {
 
+    private static final Logger logger = LoggerFactory.getLogger(FileService.class);
+
+    // transferFrom 한 번에 옮기는 최대 바이트 수
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
+    // 저장하는 Content-Type 허용 목록 (사진, 사업자등록증 PDF)
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/gif", "image/webp", "image/heic", "image/heif", "application/pdf");
+
+    // 내용 기준 저장 디렉토리 (blobs/ab/cd/<checksum>)
+    private static final String BLOB_DIR = "blobs";
+
     @Value("${app.file.upload-dir:./uploads}")
     private String uploadDir;
 
+    private final FileStorageConfig fileStorageConfig;
     private final FileRepository fileRepository;
+    private final FileBlobRepository fileBlobRepository;
     private final UserRepository userRepository;
     private final QuoteRequestRepository quoteRequestRepository;
     private final QuoteResponseRepository quoteResponseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate refTransactionTemplate;
 
     @Autowired
-    public FileService(FileRepository fileRepository, UserRepository userRepository,
+    public FileService(FileStorageConfig fileStorageConfig,
+                       FileRepository fileRepository, FileBlobRepository fileBlobRepository,
+                       UserRepository userRepository,
                        QuoteRequestRepository quoteRequestRepository,
-                       QuoteResponseRepository quoteResponseRepository) {
+                       QuoteResponseRepository quoteResponseRepository,
+                       TransactionTemplate transactionTemplate) {
+        this.fileStorageConfig = fileStorageConfig;
         this.fileRepository = fileRepository;
+        this.fileBlobRepository = fileBlobRepository;
         this.userRepository = userRepository;
         this.quoteRequestRepository = quoteRequestRepository;
         this.quoteResponseRepository = quoteResponseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.refTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.refTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
      * 파일 업로드 처리
+     * 내용의 SHA-256으로 저장 위치를 정하고, 같은 내용이 이미 저장되어 있으면 새로 기록하지 않고 참조만 추가
+     * 다른 트랜잭션 안에서 호출하지 말 것 (참조 추가용 커넥션을 하나 더 잡음, prepareUploads + saveUpload 사용)
      */
-    @Transactional
     public FileEntity storeFile(MultipartFile file, FileEntity.FileCategory category,
                                 Long userId, Long quoteRequestId, Long quoteResponseId) throws IOException {
+        PreparedUpload upload = prepareUpload(file);
+        try {
+            return transactionTemplate.execute(status ->
+                    saveUpload(upload, category, userId, quoteRequestId, quoteResponseId));
+        } catch (RuntimeException e) {
+            discardUploads(List.of(upload));
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 파일을 트랜잭션 밖에서 미리 저장 (하나라도 실패하면 앞서 저장한 참조까지 되돌림)
+     * 반환된 업로드는 호출자의 트랜잭션에서 saveUpload로 연결하고, 연결하지 못하면 discardUploads로 정리
+     */
+    public List<PreparedUpload> prepareUploads(List<MultipartFile> files) throws IOException {
+        List<PreparedUpload> uploads = new ArrayList<>();
+        if (files == null) {
+            return uploads;
+        }
+        try {
+            for (MultipartFile file : files) {
+                uploads.add(prepareUpload(file));
+            }
+        } catch (IOException | RuntimeException e) {
+            discardUploads(uploads);
+            throw e;
+        }
+        return uploads;
+    }
 
+    /**
+     * 업로드 내용을 저장하고 참조 추가까지 짧은 트랜잭션으로 커밋
+     * 호출자의 트랜잭션이 시작되기 전에 실행해야 업로드 하나가 커넥션을 하나만 사용
+     */
+    private PreparedUpload prepareUpload(MultipartFile file) throws IOException {
         // 파일명 가져오기 및 정규화
         String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
 
@@ -63,17 +145,48 @@ public class FileService {
             throw new IOException("파일명에 부적절한 문자가 포함되어 있습니다: " + originalFileName);
         }
 
-        // 카테고리에 맞는 디렉토리 결정
-        String categoryDir = getCategoryDirectory(category);
-
-        // 저장할 파일명 (중복 방지를 위해 UUID 사용)
-        String fileName = UUID.randomUUID().toString() + "_" + originalFileName;
+        // 크기를 미리 알 수 있으면 저장 전에 거절
+        long maxFileSize = fileStorageConfig.getMaxFileSize();
+        if (file.getSize() > maxFileSize) {
+            throw new IOException("파일 크기가 제한(" + maxFileSize + " bytes)을 초과했습니다: " + originalFileName);
+        }
 
-        // 파일 저장 경로
-        Path targetLocation = Paths.get(uploadDir, categoryDir).resolve(fileName);
+        // 임시 파일에 한 번만 기록하면서 크기 제한 확인과 체크섬 계산
+        Path temp = Paths.get(uploadDir, "temp").resolve(UUID.randomUUID() + ".upload");
+        try {
+            StoredContent content = spool(file, temp, maxFileSize);
+            String blobPath = blobPath(content.checksum);
+            acquireBlob(content, blobPath, temp);
+            return new PreparedUpload(originalFileName, normalizeContentType(file.getContentType()),
+                    content.size, content.checksum, blobPath);
+        } finally {
+            // 같은 내용이 이미 있었거나 실패한 경우 남은 임시 파일 삭제
+            Files.deleteIfExists(temp);
+        }
+    }
 
-        // 파일 저장
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * 미리 저장한 업로드의 파일 정보를 현재 트랜잭션에 저장
+     * 트랜잭션이 커밋되지 않으면 참조를 되돌림
+     */
+    @Transactional
+    public FileEntity saveUpload(PreparedUpload upload, FileEntity.FileCategory category,
+                                 Long userId, Long quoteRequestId, Long quoteResponseId) {
+        if (upload.attached) {
+            throw new IllegalStateException("이미 저장되었거나 정리된 업로드입니다: " + upload.originalFileName);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            upload.attached = true;
+            Path blobLocation = Paths.get(uploadDir).resolve(upload.blobPath);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseBlobNow(upload.checksum, blobLocation);
+                    }
+                }
+            });
+        }
 
         // 업로드 사용자 조회
         User uploader = null;
@@ -98,11 +211,12 @@ public class FileService {
 
         // 파일 정보 DB에 저장
         FileEntity fileEntity = FileEntity.builder()
-                .fileName(fileName)
-                .originalFileName(originalFileName)
-                .filePath(categoryDir + "/" + fileName)
-                .fileType(file.getContentType())
-                .fileSize(file.getSize())
+                .fileName(upload.checksum)
+                .originalFileName(upload.originalFileName)
+                .filePath(upload.blobPath)
+                .fileType(upload.contentType)
+                .fileSize(upload.size)
+                .checksum(upload.checksum)
                 .category(category)
                 .uploader(uploader)
                 .quoteRequest(quoteRequest)    // 엔티티 참조로 변경
@@ -112,6 +226,106 @@ public class FileService {
         return fileRepository.save(fileEntity);
     }
 
+    /**
+     * 파일 정보 저장 트랜잭션에 연결되지 못한 업로드의 참조 되돌리기 (연결된 업로드는 해당 트랜잭션이 정리)
+     */
+    public void discardUploads(List<PreparedUpload> uploads) {
+        for (PreparedUpload upload : uploads) {
+            if (!upload.attached) {
+                upload.attached = true;
+                releaseBlobNow(upload.checksum, Paths.get(uploadDir).resolve(upload.blobPath));
+            }
+        }
+    }
+
+    /**
+     * 업로드 내용을 임시 파일에 기록하면서 크기와 SHA-256 계산 (제한을 넘으면 읽는 도중 중단)
+     * FileChannel.transferFrom으로 한 번만 복사
+     */
+    private StoredContent spool(MultipartFile file, Path temp, long maxFileSize) throws IOException {
+        Files.createDirectories(temp.getParent());
+        try (InputStream in = file.getInputStream();
+             LimitedDigestChannel source = new LimitedDigestChannel(Channels.newChannel(in), maxFileSize);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            // 원본 스트림이 끝나면 0 반환
+            while ((transferred = out.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+            return new StoredContent(position, source.checksum());
+        }
+    }
+
+    /**
+     * 참조 추가 후 저장 파일이 없을 때만 임시 파일을 이름만 바꿔 옮김
+     * 행 잠금 안에서 옮기므로 같은 내용의 마지막 참조 삭제와 겹치지 않음
+     */
+    private void acquireBlob(StoredContent content, String blobPath, Path temp) throws IOException {
+        Path blobLocation = Paths.get(uploadDir).resolve(blobPath);
+        try {
+            refTransactionTemplate.executeWithoutResult(status -> {
+                fileBlobRepository.acquire(content.checksum, blobPath, content.size);
+                if (Files.exists(blobLocation)) {
+                    return;
+                }
+                try {
+                    Files.createDirectories(blobLocation.getParent());
+                    Files.move(temp, blobLocation, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 저장되지 않은 업로드의 참조 되돌리기 (별도 트랜잭션, 마지막 참조였으면 행 잠금 안에서 파일까지 삭제)
+     */
+    private void releaseBlobNow(String checksum, Path blobLocation) {
+        try {
+            refTransactionTemplate.executeWithoutResult(status -> {
+                fileBlobRepository.release(checksum);
+                Integer refCount = fileBlobRepository.findRefCount(checksum);
+                if (refCount != null && refCount > 0) {
+                    return;
+                }
+                fileBlobRepository.deleteByChecksum(checksum);
+                try {
+                    Files.deleteIfExists(blobLocation);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("업로드 취소 후 파일 참조 정리 실패: {}", checksum, e);
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 Content-Type을 허용 목록 기준으로 정리 (목록에 없거나 형식이 잘못되면 application/octet-stream)
+     * 다운로드 응답의 Content-Type으로 그대로 사용됨
+     */
+    static String normalizeContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            String normalized = (mediaType.getType() + "/" + mediaType.getSubtype()).toLowerCase(Locale.ROOT);
+            return ALLOWED_CONTENT_TYPES.contains(normalized) ? normalized : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
+    // 업로드 디렉토리 기준 저장 경로 (앞 4자리로 두 단계 분산)
+    private static String blobPath(String checksum) {
+        return BLOB_DIR + "/" + checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum;
+    }
+
     /**
      * 파일 다운로드를 위한 Resource 가져오기
      */
@@ -145,33 +359,148 @@ public class FileService {
     }
 
     /**
-     * 카테고리에 맞는 디렉토리 이름 반환
+     * 파일 정보 조회
      */
-    private String getCategoryDirectory(FileEntity.FileCategory category) {
-        switch (category) {
-            case PET_PHOTO: return "pet";
-            case BEFORE_GROOMING: return "before";
-            case AFTER_GROOMING: return "after";
-            case BUSINESS_LICENSE: return "license";
-            case PROFILE_IMAGE: return "profile";
-            case OTHER:
-            default: return "other";
-        }
+    public FileEntity getFile(Long fileId) {
+        return fileRepository.findById(fileId)
+                .orElseThrow(() -> new EntityNotFoundException("파일을 찾을 수 없습니다: " + fileId));
     }
 
     /**
      * 파일 삭제
+     * 내용 기준 저장 파일은 마지막 참조가 삭제될 때만 실제 파일 삭제
      */
     @Transactional
     public void deleteFile(Long fileId) throws IOException {
         FileEntity fileEntity = fileRepository.findById(fileId)
                 .orElseThrow(() -> new EntityNotFoundException("파일을 찾을 수 없습니다: " + fileId));
 
-        // 파일 시스템에서 삭제
         Path filePath = Paths.get(uploadDir).resolve(fileEntity.getFilePath()).normalize();
-        Files.deleteIfExists(filePath);
+        if (fileEntity.getFilePath().startsWith(BLOB_DIR + "/")) {
+            releaseBlob(fileEntity.getChecksum(), filePath);
+        } else {
+            // 카테고리 디렉토리에 저장된 이전 방식 파일
+            Files.deleteIfExists(filePath);
+        }
 
         // DB에서 삭제
         fileRepository.delete(fileEntity);
     }
-}
\ No newline at end of file
+
+    /**
+     * 참조 제거 후 남은 참조가 없으면 파일 삭제
+     * 커밋 전에는 임시 디렉토리로 옮겨만 두고(행 잠금 중이라 같은 내용의 업로드가 끼어들지 않음),
+     * 커밋되면 삭제, 롤백되면 원래 위치로 복구
+     */
+    private void releaseBlob(String checksum, Path blobLocation) throws IOException {
+        fileBlobRepository.release(checksum);
+        Integer refCount = fileBlobRepository.findRefCount(checksum);
+        if (refCount != null && refCount > 0) {
+            return;
+        }
+
+        fileBlobRepository.deleteByChecksum(checksum);
+        if (!Files.exists(blobLocation)) {
+            return;
+        }
+
+        Path trash = Paths.get(uploadDir, "temp").resolve(checksum + "." + UUID.randomUUID() + ".deleted");
+        Files.move(blobLocation, trash, StandardCopyOption.ATOMIC_MOVE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        Files.deleteIfExists(trash);
+                    } else {
+                        Files.move(trash, blobLocation, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                } catch (IOException e) {
+                    // 정리 실패는 무시 (삭제 대기 파일은 임시 디렉토리에 남음)
+                }
+            }
+        });
+    }
+
+    /**
+     * 내용 저장과 참조 추가를 마치고 파일 정보 저장을 기다리는 업로드
+     */
+    public static final class PreparedUpload {
+        private final String originalFileName;
+        private final String contentType;
+        private final long size;
+        private final String checksum;
+        private final String blobPath;
+        // 참조 정리를 트랜잭션에 맡겼거나 이미 되돌린 경우 true
+        private boolean attached;
+
+        private PreparedUpload(String originalFileName, String contentType, long size,
+                               String checksum, String blobPath) {
+            this.originalFileName = originalFileName;
+            this.contentType = contentType;
+            this.size = size;
+            this.checksum = checksum;
+            this.blobPath = blobPath;
+        }
+    }
+
+    private static final class StoredContent {
+        private final long size;
+        private final String checksum;
+
+        private StoredContent(long size, String checksum) {
+            this.size = size;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 세어 제한을 넘으면 중단하고, 읽은 내용으로 SHA-256 계산
+     */
+    private static final class LimitedDigestChannel implements ReadableByteChannel {
+        private final ReadableByteChannel delegate;
+        private final long maxBytes;
+        private final MessageDigest digest;
+        private long readBytes;
+
+        private LimitedDigestChannel(ReadableByteChannel delegate, long maxBytes) {
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+            }
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            int start = dst.position();
+            int read = delegate.read(dst);
+            if (read > 0) {
+                readBytes += read;
+                if (readBytes > maxBytes) {
+                    throw new IOException("파일 크기가 제한(" + maxBytes + " bytes)을 초과했습니다.");
+                }
+                ByteBuffer chunk = dst.duplicate();
+                chunk.position(start).limit(start + read);
+                digest.update(chunk);
+            }
+            return read;
+        }
+
+        private String checksum() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
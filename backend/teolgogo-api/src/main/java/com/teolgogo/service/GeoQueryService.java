@@ -0,0 +1,100 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.QuoteRequest;
+import com.teolgogo.entity.User;
+import com.teolgogo.repository.GeoDistanceProjection;
+import com.teolgogo.repository.QuoteRequestRepository;
+import com.teolgogo.repository.UserRepository;
+import com.teolgogo.util.GeoUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 위치 기반 반경 검색 공통 처리
+ * 반경으로부터 경계 상자를 구해 (상태/역할, 위도, 경도) 인덱스로 후보를 좁히고,
+ * 후보에 대해서만 대원 거리를 계산한 뒤 거리와 함께 반환
+ */
+@Service
+public class GeoQueryService {
+
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final UserRepository userRepository;
+
+    @Autowired
+    public GeoQueryService(QuoteRequestRepository quoteRequestRepository, UserRepository userRepository) {
+        this.quoteRequestRepository = quoteRequestRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 반경 내 견적 요청 조회 (최신순, status가 null이면 상태 무관)
+     */
+    @Transactional(readOnly = true)
+    public List<GeoResult<QuoteRequest>> findQuoteRequestsWithin(
+            QuoteRequest.RequestStatus status, double latitude, double longitude, double radiusKm) {
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+
+        List<GeoDistanceProjection> distances = status != null
+                ? quoteRequestRepository.findDistancesByStatusWithinBox(
+                        status, latitude, longitude, radiusKm,
+                        box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude())
+                : quoteRequestRepository.findDistancesWithinBox(
+                        latitude, longitude, radiusKm,
+                        box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude());
+
+        return load(distances, quoteRequestRepository, QuoteRequest::getId);
+    }
+
+    /**
+     * 반경 내 특정 역할 사용자 조회 (거리순)
+     */
+    @Transactional(readOnly = true)
+    public List<GeoResult<User>> findUsersWithin(
+            User.Role role, double latitude, double longitude, double radiusKm) {
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+
+        List<GeoDistanceProjection> distances = userRepository.findDistancesByRoleWithinBox(
+                role, latitude, longitude, radiusKm,
+                box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude());
+
+        return load(distances, userRepository, User::getId);
+    }
+
+    /**
+     * 검색된 ID의 엔티티를 한 번에 로드하고 검색 순서대로 거리와 묶음
+     */
+    private <T> List<GeoResult<T>> load(List<GeoDistanceProjection> distances,
+                                        JpaRepository<T, Long> repository,
+                                        Function<T, Long> idGetter) {
+        if (distances.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = distances.stream()
+                .map(GeoDistanceProjection::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, T> entitiesById = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(idGetter, entity -> entity));
+
+        List<GeoResult<T>> results = new ArrayList<>();
+        for (GeoDistanceProjection distance : distances) {
+            T entity = entitiesById.get(distance.getId());
+            if (entity != null) {
+                results.add(new GeoResult<>(entity, new Distance(distance.getDistance(), Metrics.KILOMETERS)));
+            }
+        }
+        return results;
+    }
+}
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.GeoResult;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -35,11 +36,13 @@ public class KakaoPushService {
     private String pushNotificationUrl;
 
     private final UserRepository userRepository;
+    private final GeoQueryService geoQueryService;
     private final RestTemplate restTemplate;
 
     @Autowired
-    public KakaoPushService(UserRepository userRepository) {
+    public KakaoPushService(UserRepository userRepository, GeoQueryService geoQueryService) {
         this.userRepository = userRepository;
+        this.geoQueryService = geoQueryService;
         this.restTemplate = new RestTemplate();
     }
 
@@ -116,11 +119,12 @@ public class KakaoPushService {
             String title, String content, String linkUrl) {
         try {
             // 주변 업체 찾기 (User.Role.BUSINESS 열거형으로 전달)
-            List<User> nearbyBusinesses = userRepository.findNearbyBusinessUsers(
-                    latitude, longitude, radius, User.Role.BUSINESS);
+            List<GeoResult<User>> nearbyBusinesses = geoQueryService.findUsersWithin(
+                    User.Role.BUSINESS, latitude, longitude, radius);
 
             int successCount = 0;
-            for (User business : nearbyBusinesses) {
+            for (GeoResult<User> result : nearbyBusinesses) {
+                User business = result.getContent();
                 if (business.isKakaoLinked() && business.isNotificationEnabled()) {
                     if (sendPushNotification(business.getId(), title, content, linkUrl)) {
                         successCount++;
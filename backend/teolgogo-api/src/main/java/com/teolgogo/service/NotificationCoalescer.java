@@ -0,0 +1,193 @@
+package com.teolgogo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신자별 알림 묶음 처리
+ * 같은 사용자에게 같은 종류의 알림이 window 안에 threshold건을 넘게 오면
+ * 넘친 알림은 보내지 않고 모아 두었다가 window가 끝날 때 요약 알림 한 건으로 전송
+ * 요약을 보낸 뒤에도 알림이 계속 오면 다음 window는 바로 요약 모드로 시작하고,
+ * 조용한 window가 지나면 다시 건별 전송으로 돌아감
+ * (서버별 메모리에서 처리하므로 여러 서버에서는 서버마다 따로 묶임)
+ */
+@Component
+public class NotificationCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationCoalescer.class);
+
+    public enum Category {
+        QUOTE_REQUEST("새로운 견적 요청 %d건",
+                "주변에서 견적 요청 %d건이 더 도착했습니다. 지금 확인해보세요.",
+                "https://teolgogo.com/business/quotation"),
+        NEW_REVIEW("새로운 리뷰 %d건",
+                "리뷰 %d건이 새로 등록되었습니다. 지금 확인해보세요.",
+                "https://teolgogo.com/business/reviews");
+
+        private final String titleFormat;
+        private final String bodyFormat;
+        private final String url;
+
+        Category(String titleFormat, String bodyFormat, String url) {
+            this.titleFormat = titleFormat;
+            this.bodyFormat = bodyFormat;
+            this.url = url;
+        }
+    }
+
+    private final PushNotificationService pushNotificationService;
+    private final boolean enabled;
+    private final int threshold;
+    private final long windowMillis;
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public NotificationCoalescer(
+            PushNotificationService pushNotificationService,
+            @Value("${app.notification.coalesce.enabled:true}") boolean enabled,
+            @Value("${app.notification.coalesce.threshold:3}") int threshold,
+            @Value("${app.notification.coalesce.window-seconds:60}") long windowSeconds) {
+        this.pushNotificationService = pushNotificationService;
+        this.enabled = enabled;
+        this.threshold = Math.max(1, threshold);
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 모아 둔 알림이 없는 지난 window 정리
+        scheduler.scheduleWithFixedDelay(this::sweep, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        // 종료 시 모아 둔 알림은 요약으로 바로 전송
+        windows.keySet().forEach(this::flush);
+    }
+
+    /**
+     * 알림을 바로 보내도 되는지 확인 (false면 요약 알림에 포함되어 나중에 전송)
+     */
+    public boolean admit(Long userId, Category category) {
+        if (!enabled || userId == null) {
+            return true;
+        }
+
+        Key key = new Key(userId, category);
+        long now = System.currentTimeMillis();
+        boolean[] admitted = new boolean[1];
+        long[] flushDelay = {-1};
+
+        windows.compute(key, (k, window) -> {
+            // 지난 window라도 모아 둔 알림이 있으면 곧 요약으로 나가므로 거기에 포함
+            if (window == null || (window.suppressed == 0 && now - window.startedAt >= windowMillis)) {
+                window = new Window(now, 0);
+            }
+            if (window.sent < threshold) {
+                window.sent++;
+                admitted[0] = true;
+            } else if (window.suppressed++ == 0) {
+                flushDelay[0] = Math.max(0, window.startedAt + windowMillis - now);
+            }
+            return window;
+        });
+
+        if (flushDelay[0] >= 0) {
+            scheduler.schedule(() -> flush(key), flushDelay[0], TimeUnit.MILLISECONDS);
+        }
+        return admitted[0];
+    }
+
+    private void flush(Key key) {
+        int[] suppressed = new int[1];
+        windows.computeIfPresent(key, (k, window) -> {
+            suppressed[0] = window.suppressed;
+            // 요약을 보냈으면 다음 window는 요약 모드로 시작
+            return suppressed[0] > 0 ? new Window(System.currentTimeMillis(), threshold) : null;
+        });
+
+        if (suppressed[0] == 0) {
+            return;
+        }
+
+        Category category = key.category;
+        try {
+            pushNotificationService.sendPushNotification(key.userId,
+                    String.format(category.titleFormat, suppressed[0]),
+                    String.format(category.bodyFormat, suppressed[0]),
+                    category.url);
+            logger.debug("요약 알림 전송: 사용자 {}, {} {}건", key.userId, category, suppressed[0]);
+        } catch (Exception e) {
+            logger.error("요약 알림 전송 실패: 사용자 {}, {}", key.userId, category, e);
+        }
+    }
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        for (Key key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, window) ->
+                    window.suppressed == 0 && now - window.startedAt >= windowMillis ? null : window);
+        }
+    }
+
+    // compute 안에서만 변경
+    private static final class Window {
+        private final long startedAt;
+        private int sent;
+        private int suppressed;
+
+        private Window(long startedAt, int sent) {
+            this.startedAt = startedAt;
+            this.sent = sent;
+        }
+    }
+
+    private static final class Key {
+        private final Long userId;
+        private final Category category;
+
+        private Key(Long userId, Category category) {
+            this.userId = userId;
+            this.category = category;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return userId.equals(key.userId) && category == key.category;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, category);
+        }
+    }
+}
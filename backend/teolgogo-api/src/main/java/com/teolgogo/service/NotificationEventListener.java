@@ -0,0 +1,66 @@
+package com.teolgogo.service;
+
+import com.teolgogo.config.AsyncConfig;
+import com.teolgogo.event.GroomingCompletedEvent;
+import com.teolgogo.event.OfferAcceptedEvent;
+import com.teolgogo.event.OfferCreatedEvent;
+import com.teolgogo.event.PaymentCompletedEvent;
+import com.teolgogo.event.QuoteRequestCreatedEvent;
+import com.teolgogo.event.ReviewCreatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트를 받아 알림 전송
+ * 트랜잭션 커밋 이후 알림 실행기에서 처리하므로 요청 스레드의 응답 시간에 포함되지 않음
+ * (트랜잭션 밖에서 발행된 이벤트도 처리)
+ */
+@Component
+public class NotificationEventListener {
+
+    private final NotificationService notificationService;
+
+    @Autowired
+    public NotificationEventListener(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Async(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteRequestCreated(QuoteRequestCreatedEvent event) {
+        notificationService.sendQuoteRequestNotification(event.getRequestId());
+    }
+
+    @Async(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferCreated(OfferCreatedEvent event) {
+        notificationService.sendQuoteOfferNotification(event.getOfferId());
+    }
+
+    @Async(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferAccepted(OfferAcceptedEvent event) {
+        notificationService.sendQuoteAcceptNotification(event.getOfferId());
+    }
+
+    @Async(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroomingCompleted(GroomingCompletedEvent event) {
+        notificationService.sendGroomingCompletedNotification(event.getResponseId());
+    }
+
+    @Async(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        notificationService.sendNewReviewNotification(
+                event.getReviewId(), event.getBusinessId(), event.getCustomerName(), event.getRating());
+    }
+
+    @Async(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        notificationService.sendPaymentCompletedNotification(event.getPaymentId());
+    }
+}
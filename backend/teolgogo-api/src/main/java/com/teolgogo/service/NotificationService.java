@@ -1,8 +1,10 @@
 package com.teolgogo.service;
 
+import com.teolgogo.entity.Payment;
 import com.teolgogo.entity.QuoteRequest;
 import com.teolgogo.entity.QuoteResponse;
 import com.teolgogo.entity.User;
+import com.teolgogo.repository.PaymentRepository;
 import com.teolgogo.repository.QuoteRequestRepository;
 import com.teolgogo.repository.QuoteResponseRepository;
 import com.teolgogo.repository.UserRepository;
@@ -22,18 +24,24 @@ public class NotificationService {
     private final UserRepository userRepository;
     private final QuoteRequestRepository quoteRequestRepository;
     private final QuoteResponseRepository quoteResponseRepository;
+    private final PaymentRepository paymentRepository;
     private final PushNotificationService pushNotificationService;
+    private final NotificationCoalescer notificationCoalescer;
 
     @Autowired
     public NotificationService(
             UserRepository userRepository,
             QuoteRequestRepository quoteRequestRepository,
             QuoteResponseRepository quoteResponseRepository,
-            PushNotificationService pushNotificationService) {
+            PaymentRepository paymentRepository,
+            PushNotificationService pushNotificationService,
+            NotificationCoalescer notificationCoalescer) {
         this.userRepository = userRepository;
         this.quoteRequestRepository = quoteRequestRepository;
         this.quoteResponseRepository = quoteResponseRepository;
+        this.paymentRepository = paymentRepository;
         this.pushNotificationService = pushNotificationService;
+        this.notificationCoalescer = notificationCoalescer;
     }
 
     /**
@@ -60,14 +68,15 @@ public class NotificationService {
             );
             String linkUrl = "https://teolgogo.com/business/quotation/" + requestId;
 
-            // 웹 푸시 알림으로 대체
+            // 웹 푸시 알림으로 대체 (알림이 몰리는 업체는 요약 알림으로 묶음)
             int sentCount = pushNotificationService.sendNearbyBusinessPushNotification(
                     request.getLatitude(),
                     request.getLongitude(),
                     5.0, // 5km 반경
                     title,
                     content,
-                    linkUrl
+                    linkUrl,
+                    businessId -> notificationCoalescer.admit(businessId, NotificationCoalescer.Category.QUOTE_REQUEST)
             );
 
             logger.info("견적 요청 알림 전송 완료: {}개 업체에 전송 (requestId: {})", sentCount, requestId);
@@ -194,12 +203,57 @@ public class NotificationService {
         }
     }
 
+    /**
+     * 결제 완료 알림 전송 (업체에게)
+     */
+    @Transactional(readOnly = true)
+    public void sendPaymentCompletedNotification(Long paymentId) {
+        try {
+            Optional<Payment> paymentOpt = paymentRepository.findById(paymentId);
+            if (paymentOpt.isEmpty()) {
+                logger.warn("결제 완료 알림 실패: 결제 ID {} 를 찾을 수 없음", paymentId);
+                return;
+            }
+
+            Payment payment = paymentOpt.get();
+            User business = payment.getBusiness();
+            User customer = payment.getCustomer();
+
+            // 업체에게 푸시 알림 전송
+            String title = "결제가 완료되었습니다";
+            String content = String.format(
+                    "%s님이 %d원을 결제했습니다. 예약 내용을 확인해보세요.",
+                    customer.getName(),
+                    payment.getAmount()
+            );
+            String linkUrl = "https://teolgogo.com/business/quotation/" + payment.getQuoteResponse().getId() + "/dashboard";
+
+            boolean sent = pushNotificationService.sendPushNotification(
+                    business.getId(),
+                    title,
+                    content,
+                    linkUrl
+            );
+
+            logger.info("결제 완료 알림 전송 {}: 업체(ID: {})에게 알림 (paymentId: {})",
+                    sent ? "성공" : "실패", business.getId(), paymentId);
+        } catch (Exception e) {
+            logger.error("결제 완료 알림 전송 중 오류 발생: ", e);
+        }
+    }
+
     /**
      * 새 리뷰 알림 전송 (업체에게)
      */
     @Transactional(readOnly = true)
     public void sendNewReviewNotification(Long reviewId, Long businessId, String customerName, Integer rating) {
         try {
+            // 알림이 몰리면 요약 알림으로 묶어서 나중에 전송
+            if (!notificationCoalescer.admit(businessId, NotificationCoalescer.Category.NEW_REVIEW)) {
+                logger.info("새 리뷰 알림 요약 대기: 업체(ID: {}) (reviewId: {})", businessId, reviewId);
+                return;
+            }
+
             // 업체에게 푸시 알림 전송
             String title = "새로운 리뷰가 등록되었습니다";
             String content = String.format(
@@ -6,12 +6,14 @@ import com.teolgogo.entity.Payment;
 import com.teolgogo.entity.QuoteRequest;
 import com.teolgogo.entity.QuoteResponse;
 import com.teolgogo.entity.User;
+import com.teolgogo.event.PaymentCompletedEvent;
 import com.teolgogo.repository.PaymentRepository;
 import com.teolgogo.repository.QuoteRequestRepository;
 import com.teolgogo.repository.QuoteResponseRepository;
 import com.teolgogo.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,10 @@ public class PaymentService {
     private final UserRepository userRepository;
     private final TossPaymentClient tossPaymentClient;
     private final KakaoPayClient kakaoPayClient;
+    private final QuoteRequestGeoIndex quoteRequestGeoIndex;
+    private final BusinessStatsRollupService businessStatsRollupService;
+    private final DailyStatisticsService dailyStatisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public PaymentService(
@@ -40,13 +46,21 @@ public class PaymentService {
             QuoteRequestRepository quoteRequestRepository,
             UserRepository userRepository,
             TossPaymentClient tossPaymentClient,
-            KakaoPayClient kakaoPayClient) {
+            KakaoPayClient kakaoPayClient,
+            QuoteRequestGeoIndex quoteRequestGeoIndex,
+            BusinessStatsRollupService businessStatsRollupService,
+            DailyStatisticsService dailyStatisticsService,
+            ApplicationEventPublisher eventPublisher) {
         this.paymentRepository = paymentRepository;
         this.quoteResponseRepository = quoteResponseRepository;
         this.quoteRequestRepository = quoteRequestRepository;
         this.userRepository = userRepository;
         this.tossPaymentClient = tossPaymentClient;
         this.kakaoPayClient = kakaoPayClient;
+        this.quoteRequestGeoIndex = quoteRequestGeoIndex;
+        this.businessStatsRollupService = businessStatsRollupService;
+        this.dailyStatisticsService = dailyStatisticsService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -184,21 +198,21 @@ public class PaymentService {
             Map<String, Object> response = tossPaymentClient.confirmPayment(paymentKey, orderId, amount);
 
             // 결제 정보 업데이트
+            boolean alreadyDone = payment.getStatus() == Payment.PaymentStatus.DONE;
             payment.setPaymentKey(paymentKey);
             payment.setStatus(Payment.PaymentStatus.DONE);
             payment.setPaidAt(LocalDateTime.now());
             payment.setReceiptUrl((String) response.get("receipt").toString());
 
             paymentRepository.save(payment);
+            if (!alreadyDone) {
+                businessStatsRollupService.recordPaymentCompleted(payment);
+                dailyStatisticsService.recordPaymentChange(payment, 1);
+                eventPublisher.publishEvent(new PaymentCompletedEvent(payment.getId()));
+            }
 
             // 견적 상태 업데이트
-            QuoteResponse quoteResponse = payment.getQuoteResponse();
-            quoteResponse.setStatus(QuoteResponse.ResponseStatus.ACCEPTED);
-            quoteResponseRepository.save(quoteResponse);
-
-            QuoteRequest quoteRequest = quoteResponse.getQuoteRequest();
-            quoteRequest.setStatus(QuoteRequest.RequestStatus.ACCEPTED);
-            quoteRequestRepository.save(quoteRequest);
+            updateQuoteStatus(payment.getQuoteResponse());
 
             return response;
         } catch (Exception e) {
@@ -220,19 +234,19 @@ public class PaymentService {
             Map<String, Object> response = kakaoPayClient.approvePayment(pgToken, partnerOrderId, partnerUserId, tid);
 
             // 결제 정보 업데이트
+            boolean alreadyDone = payment.getStatus() == Payment.PaymentStatus.DONE;
             payment.setStatus(Payment.PaymentStatus.DONE);
             payment.setPaidAt(LocalDateTime.now());
 
             paymentRepository.save(payment);
+            if (!alreadyDone) {
+                businessStatsRollupService.recordPaymentCompleted(payment);
+                dailyStatisticsService.recordPaymentChange(payment, 1);
+                eventPublisher.publishEvent(new PaymentCompletedEvent(payment.getId()));
+            }
 
             // 견적 상태 업데이트
-            QuoteResponse quoteResponse = payment.getQuoteResponse();
-            quoteResponse.setStatus(QuoteResponse.ResponseStatus.ACCEPTED);
-            quoteResponseRepository.save(quoteResponse);
-
-            QuoteRequest quoteRequest = quoteResponse.getQuoteRequest();
-            quoteRequest.setStatus(QuoteRequest.RequestStatus.ACCEPTED);
-            quoteRequestRepository.save(quoteRequest);
+            updateQuoteStatus(payment.getQuoteResponse());
 
             return response;
         } catch (Exception e) {
@@ -271,6 +285,8 @@ public class PaymentService {
             // 결제 상태 업데이트
             payment.setStatus(Payment.PaymentStatus.CANCELED);
             paymentRepository.save(payment);
+            businessStatsRollupService.recordPaymentCanceled(payment);
+            dailyStatisticsService.recordPaymentChange(payment, -1);
 
             return response;
         } catch (Exception e) {
@@ -339,6 +355,9 @@ public class PaymentService {
             existingPayment.setUpdatedAt(LocalDateTime.now());
 
             Payment updatedPayment = paymentRepository.save(existingPayment);
+            businessStatsRollupService.recordPaymentCompleted(updatedPayment);
+            dailyStatisticsService.recordPaymentChange(updatedPayment, 1);
+            eventPublisher.publishEvent(new PaymentCompletedEvent(updatedPayment.getId()));
 
             // 견적 상태 업데이트
             updateQuoteStatus(quoteResponse);
@@ -363,6 +382,9 @@ public class PaymentService {
                     .build();
 
             Payment savedPayment = paymentRepository.save(payment);
+            businessStatsRollupService.recordPaymentCompleted(savedPayment);
+            dailyStatisticsService.recordPaymentChange(savedPayment, 1);
+            eventPublisher.publishEvent(new PaymentCompletedEvent(savedPayment.getId()));
 
             // 견적 상태 업데이트
             updateQuoteStatus(quoteResponse);
@@ -375,11 +397,16 @@ public class PaymentService {
      * 견적 상태 업데이트 (결제 완료 시)
      */
     private void updateQuoteStatus(QuoteResponse quoteResponse) {
+        boolean alreadyAccepted = quoteResponse.getStatus() == QuoteResponse.ResponseStatus.ACCEPTED;
         quoteResponse.setStatus(QuoteResponse.ResponseStatus.ACCEPTED);
         quoteResponseRepository.save(quoteResponse);
+        if (!alreadyAccepted) {
+            businessStatsRollupService.recordOfferAccepted(quoteResponse);
+        }
 
         QuoteRequest quoteRequest = quoteResponse.getQuoteRequest();
         quoteRequest.setStatus(QuoteRequest.RequestStatus.ACCEPTED);
         quoteRequestRepository.save(quoteRequest);
+        quoteRequestGeoIndex.update(quoteRequest);
     }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.teolgogo.service;
+
+import nl.martijndwars.webpush.Utils;
+import org.bouncycastle.jce.interfaces.ECPublicKey;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+import org.jose4j.lang.JoseException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 웹 푸시 암호화 재료 캐시
+ *  - VAPID JWT: 푸시 서비스 origin(aud)별로 만료 직전까지 재사용 (알림마다 ES256 서명하지 않음)
+ *  - 구독자 공개 키/인증 비밀: 구독 ID별로 한 번만 디코딩 (키가 바뀌면 다시 디코딩)
+ * 메시지마다 새 임시 키로 하는 ECDH와 암호화는 RFC 8291상 재사용할 수 없으므로 캐시하지 않음
+ */
+@Component
+public class PushCryptoCache {
+
+    private final long tokenTtlSeconds;
+    private final long refreshMarginSeconds;
+
+    private final Map<String, VapidToken> tokens = new ConcurrentHashMap<>();
+    private final Map<Long, SubscriberKeys> subscriberKeys;
+
+    @Autowired
+    public PushCryptoCache(
+            @Value("${app.web-push.vapid-token-ttl-seconds:43200}") long tokenTtlSeconds,
+            @Value("${app.web-push.vapid-token-refresh-margin-seconds:600}") long refreshMarginSeconds,
+            @Value("${app.web-push.subscriber-key-cache-size:50000}") int subscriberKeyCacheSize) {
+        // VAPID 토큰 유효 기간은 최대 24시간
+        this.tokenTtlSeconds = Math.min(tokenTtlSeconds, 24 * 60 * 60);
+        this.refreshMarginSeconds = Math.min(refreshMarginSeconds, this.tokenTtlSeconds / 2);
+        // 접근 순서 기준으로 오래 사용하지 않은 구독부터 제거
+        this.subscriberKeys = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SubscriberKeys> eldest) {
+                return size() > subscriberKeyCacheSize;
+            }
+        };
+    }
+
+    /**
+     * 푸시 서비스 origin용 VAPID JWT (만료까지 refresh margin보다 적게 남았으면 새로 서명)
+     */
+    public String vapidToken(String audience, String subject, PrivateKey privateKey) throws JoseException {
+        long now = System.currentTimeMillis() / 1000;
+        VapidToken cached = tokens.get(audience);
+        if (cached != null && cached.expiresAt - refreshMarginSeconds > now) {
+            return cached.token;
+        }
+
+        long expiresAt = now + tokenTtlSeconds;
+        JwtClaims claims = new JwtClaims();
+        claims.setAudience(audience);
+        claims.setExpirationTime(NumericDate.fromSeconds(expiresAt));
+        claims.setSubject(subject);
+
+        JsonWebSignature jws = new JsonWebSignature();
+        jws.setHeader("typ", "JWT");
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256);
+        jws.setPayload(claims.toJson());
+        jws.setKey(privateKey);
+
+        String token = jws.getCompactSerialization();
+        tokens.put(audience, new VapidToken(token, expiresAt));
+        return token;
+    }
+
+    /**
+     * 구독자 공개 키와 인증 비밀 (subscriptionId가 없으면 캐시하지 않음)
+     */
+    public SubscriberKeys subscriberKeys(Long subscriptionId, String p256dhKey, String authKey)
+            throws GeneralSecurityException {
+        if (subscriptionId != null) {
+            synchronized (subscriberKeys) {
+                SubscriberKeys cached = subscriberKeys.get(subscriptionId);
+                if (cached != null && cached.matches(p256dhKey, authKey)) {
+                    return cached;
+                }
+            }
+        }
+
+        SubscriberKeys keys = new SubscriberKeys(p256dhKey, authKey,
+                (ECPublicKey) Utils.loadPublicKey(p256dhKey), decode(authKey));
+
+        if (subscriptionId != null) {
+            synchronized (subscriberKeys) {
+                subscriberKeys.put(subscriptionId, keys);
+            }
+        }
+        return keys;
+    }
+
+    // 브라우저가 주는 키는 URL-safe Base64 (패딩 유무 모두 허용)
+    private static byte[] decode(String value) {
+        String normalized = value.trim().replace('+', '-').replace('/', '_').replace("=", "");
+        return Base64.getUrlDecoder().decode(normalized);
+    }
+
+    private static final class VapidToken {
+        private final String token;
+        private final long expiresAt;
+
+        private VapidToken(String token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 디코딩된 구독자 키
+     */
+    public static final class SubscriberKeys {
+        private final String p256dhKey;
+        private final String authKey;
+        private final ECPublicKey publicKey;
+        private final byte[] auth;
+
+        private SubscriberKeys(String p256dhKey, String authKey, ECPublicKey publicKey, byte[] auth) {
+            this.p256dhKey = p256dhKey;
+            this.authKey = authKey;
+            this.publicKey = publicKey;
+            this.auth = auth;
+        }
+
+        private boolean matches(String p256dhKey, String authKey) {
+            return this.p256dhKey.equals(p256dhKey) && this.authKey.equals(authKey);
+        }
+
+        public ECPublicKey getPublicKey() {
+            return publicKey;
+        }
+
+        public byte[] getAuth() {
+            return auth;
+        }
+    }
+}
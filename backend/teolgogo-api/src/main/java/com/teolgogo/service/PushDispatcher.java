@@ -0,0 +1,184 @@
+package com.teolgogo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 웹 푸시 전송 작업 실행기
+ * 푸시 서비스(FCM, Mozilla autopush, Apple 등)별로 동시 전송 수와 대기열을 따로 두어
+ * 한 서비스가 느려져도 다른 서비스로 가는 알림이 밀리지 않도록 함
+ */
+@Component
+public class PushDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushDispatcher.class);
+
+    /**
+     * 엔드포인트 호스트로 구분한 푸시 서비스
+     */
+    public enum PushOrigin {
+        FCM, MOZILLA, APPLE, OTHER;
+
+        public static PushOrigin of(String endpoint) {
+            String host;
+            try {
+                host = URI.create(endpoint).getHost();
+            } catch (IllegalArgumentException e) {
+                return OTHER;
+            }
+            if (host == null) {
+                return OTHER;
+            }
+            if (host.endsWith("googleapis.com")) {
+                return FCM;
+            }
+            if (host.endsWith("mozilla.com") || host.endsWith("mozaws.net")) {
+                return MOZILLA;
+            }
+            if (host.endsWith("push.apple.com")) {
+                return APPLE;
+            }
+            return OTHER;
+        }
+    }
+
+    private final Map<PushOrigin, Lane> lanes = new EnumMap<>(PushOrigin.class);
+    private final long shutdownTimeoutSeconds;
+
+    @Autowired
+    public PushDispatcher(
+            @Value("${app.push.concurrency.fcm:32}") int fcmConcurrency,
+            @Value("${app.push.concurrency.mozilla:16}") int mozillaConcurrency,
+            @Value("${app.push.concurrency.apple:16}") int appleConcurrency,
+            @Value("${app.push.concurrency.other:8}") int otherConcurrency,
+            @Value("${app.push.queue-capacity:5000}") int queueCapacity,
+            @Value("${app.push.shutdown-timeout-seconds:10}") long shutdownTimeoutSeconds) {
+        lanes.put(PushOrigin.FCM, new Lane(PushOrigin.FCM, fcmConcurrency, queueCapacity));
+        lanes.put(PushOrigin.MOZILLA, new Lane(PushOrigin.MOZILLA, mozillaConcurrency, queueCapacity));
+        lanes.put(PushOrigin.APPLE, new Lane(PushOrigin.APPLE, appleConcurrency, queueCapacity));
+        lanes.put(PushOrigin.OTHER, new Lane(PushOrigin.OTHER, otherConcurrency, queueCapacity));
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+    }
+
+    /**
+     * 전송 작업 등록
+     *
+     * @param task 전송에 성공하면 true를 반환하는 작업
+     * @return 대기열이 가득 차거나 종료 중이라 등록하지 못하면 false
+     */
+    public boolean dispatch(String endpoint, BooleanSupplier task) {
+        Lane lane = lanes.get(PushOrigin.of(endpoint));
+        try {
+            lane.executor.execute(() -> lane.run(task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            lane.rejected.incrementAndGet();
+            logger.warn("푸시 전송 대기열 초과로 전송 생략: {} (대기 {}건)", lane.origin, lane.executor.getQueue().size());
+            return false;
+        }
+    }
+
+    /**
+     * 모든 푸시 서비스의 대기 중인 전송 수
+     */
+    public int getQueuedCount() {
+        int queued = 0;
+        for (Lane lane : lanes.values()) {
+            queued += lane.executor.getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * 푸시 서비스별 대기/전송 중/완료/실패/거부 건수
+     */
+    public Map<String, Map<String, Long>> getMetrics() {
+        Map<String, Map<String, Long>> metrics = new LinkedHashMap<>();
+        lanes.forEach((origin, lane) -> {
+            Map<String, Long> values = new LinkedHashMap<>();
+            values.put("queued", (long) lane.executor.getQueue().size());
+            values.put("inFlight", (long) lane.inFlight.get());
+            values.put("completed", lane.completed.get());
+            values.put("failed", lane.failed.get());
+            values.put("rejected", lane.rejected.get());
+            metrics.put(origin.name(), values);
+        });
+        return metrics;
+    }
+
+    /**
+     * 새 작업은 받지 않고 대기 중인 전송을 제한 시간까지 마친 뒤 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(lane -> lane.executor.shutdown());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shutdownTimeoutSeconds);
+        for (Lane lane : lanes.values()) {
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !lane.executor.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    int dropped = lane.executor.shutdownNow().size();
+                    logger.warn("푸시 전송 종료 시간 초과: {} (미전송 {}건)", lane.origin, dropped);
+                }
+            } catch (InterruptedException e) {
+                lane.executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final PushOrigin origin;
+        private final ThreadPoolExecutor executor;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private Lane(PushOrigin origin, int concurrency, int queueCapacity) {
+            this.origin = origin;
+            AtomicInteger threadNumber = new AtomicInteger();
+            String prefix = "push-" + origin.name().toLowerCase() + "-";
+            // 스레드 수가 곧 해당 푸시 서비스의 최대 동시 전송 수
+            this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        private void run(BooleanSupplier task) {
+            inFlight.incrementAndGet();
+            try {
+                if (task.getAsBoolean()) {
+                    completed.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                }
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                logger.error("푸시 전송 작업 오류: {}", origin, e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
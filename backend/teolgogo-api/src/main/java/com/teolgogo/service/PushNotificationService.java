@@ -1,15 +1,11 @@
 package com.teolgogo.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teolgogo.dto.BulkPushResultDTO;
 import com.teolgogo.entity.PushSubscription;
 import com.teolgogo.entity.User;
 import com.teolgogo.repository.PushSubscriptionRepository;
 import com.teolgogo.repository.UserRepository;
-import nl.martijndwars.webpush.Notification;
-import nl.martijndwars.webpush.PushService;
-import nl.martijndwars.webpush.Subscription;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
-import org.jose4j.lang.JoseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,66 +13,47 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.annotation.PostConstruct;
-import java.io.IOException;
-import java.security.GeneralSecurityException;
-import java.security.Security;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
-import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 public class PushNotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(PushNotificationService.class);
-    private static final ExecutorService executorService = Executors.newFixedThreadPool(5);
 
     private final PushSubscriptionRepository pushSubscriptionRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
-    private PushService pushService;
+    private final PushOutboxService pushOutboxService;
+    private final BusinessSubscriptionRegistry businessSubscriptionRegistry;
 
     @Value("${app.web-push.public-key}")
     private String publicKey;
 
-    @Value("${app.web-push.private-key}")
-    private String privateKey;
-
-    @Value("${app.web-push.subject}")
-    private String subject;
+    // 대량 발송 시 구독 정보를 한 번에 조회할 사용자 수 (IN 절 크기)
+    @Value("${app.push.bulk.lookup-chunk-size:1000}")
+    private int lookupChunkSize;
 
     @Autowired
     public PushNotificationService(
             PushSubscriptionRepository pushSubscriptionRepository,
             UserRepository userRepository,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            PushOutboxService pushOutboxService,
+            BusinessSubscriptionRegistry businessSubscriptionRegistry) {
         this.pushSubscriptionRepository = pushSubscriptionRepository;
         this.userRepository = userRepository;
         this.objectMapper = objectMapper;
-    }
-
-    @PostConstruct
-    private void init() {
-        // BouncyCastle 보안 제공자 등록
-        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
-            Security.addProvider(new BouncyCastleProvider());
-        }
-
-        try {
-            // 푸시 서비스 초기화
-            pushService = new PushService();
-            pushService.setPublicKey(publicKey);
-            pushService.setPrivateKey(privateKey);
-            pushService.setSubject(subject);
-            logger.info("웹 푸시 서비스 초기화 성공");
-        } catch (Exception e) {
-            logger.error("웹 푸시 서비스 초기화 실패", e);
-        }
+        this.pushOutboxService = pushOutboxService;
+        this.businessSubscriptionRegistry = businessSubscriptionRegistry;
     }
 
     /**
@@ -109,6 +86,9 @@ public class PushNotificationService {
                 subscription.setP256dhKey(p256dhKey);
                 subscription.setAuthKey(authKey);
                 subscription.setExpirationTime(expirationTime);
+                // 다시 구독하면 발송 상태 초기화
+                subscription.setConsecutiveFailures(0);
+                subscription.setQuarantinedUntil(null);
             } else {
                 // 새 구독 정보 생성
                 subscription = PushSubscription.builder()
@@ -120,7 +100,9 @@ public class PushNotificationService {
                         .build();
             }
 
-            return pushSubscriptionRepository.save(subscription);
+            PushSubscription savedSubscription = pushSubscriptionRepository.save(subscription);
+            businessSubscriptionRegistry.subscribed(savedSubscription);
+            return savedSubscription;
         } catch (Exception e) {
             logger.error("푸시 알림 구독 저장 실패", e);
             throw new RuntimeException("푸시 알림 구독 처리 중 오류 발생", e);
@@ -136,7 +118,10 @@ public class PushNotificationService {
             Optional<PushSubscription> subscriptionOpt =
                     pushSubscriptionRepository.findByUserIdAndEndpoint(userId, endpoint);
 
-            subscriptionOpt.ifPresent(pushSubscriptionRepository::delete);
+            subscriptionOpt.ifPresent(subscription -> {
+                pushSubscriptionRepository.delete(subscription);
+                businessSubscriptionRegistry.unsubscribed(subscription.getId(), userId);
+            });
         } catch (Exception e) {
             logger.error("푸시 알림 구독 취소 실패", e);
             throw new RuntimeException("푸시 알림 구독 취소 중 오류 발생", e);
@@ -148,7 +133,8 @@ public class PushNotificationService {
      */
     public boolean sendPushNotification(Long userId, String title, String body, String url) {
         try {
-            List<PushSubscription> subscriptions = pushSubscriptionRepository.findByUserId(userId);
+            List<PushSubscription> subscriptions =
+                    pushSubscriptionRepository.findActiveByUserId(userId, LocalDateTime.now());
             if (subscriptions.isEmpty()) {
                 logger.warn("푸시 알림 전송 실패: 사용자({})의 구독 정보 없음", userId);
                 return false;
@@ -156,18 +142,9 @@ public class PushNotificationService {
 
             Map<String, Object> payload = createPayload(title, body, url);
             String payloadJson = objectMapper.writeValueAsString(payload);
-            boolean sentToAtLeastOne = false;
-
-            for (PushSubscription subscription : subscriptions) {
-                try {
-                    sendNotificationAsync(subscription, payloadJson);
-                    sentToAtLeastOne = true;
-                } catch (Exception e) {
-                    logger.error("푸시 알림 전송 실패: 사용자({}), 엔드포인트: {}", userId, subscription.getEndpoint(), e);
-                }
-            }
 
-            return sentToAtLeastOne;
+            // 발송 대기열에 저장 (실제 전송과 재시도는 PushOutboxService에서 처리)
+            return pushOutboxService.enqueue(subscriptions, payloadJson) > 0;
         } catch (Exception e) {
             logger.error("푸시 알림 전송 중 오류 발생", e);
             return false;
@@ -176,15 +153,61 @@ public class PushNotificationService {
 
     /**
      * 여러 사용자에게 푸시 알림 전송
+     * 구독 정보는 IN 조회로 묶어서 가져오고, 페이로드는 한 번만 직렬화해 한 번에 발송 대기열에 저장
      */
-    public int sendBulkPushNotification(List<Long> userIds, String title, String body, String url) {
-        int successCount = 0;
-        for (Long userId : userIds) {
-            if (sendPushNotification(userId, title, body, url)) {
-                successCount++;
+    public BulkPushResultDTO sendBulkPushNotification(List<Long> userIds, String title, String body, String url) {
+        List<Long> distinctUserIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+
+        // 사용자별 구독 정보 조회 (요청 순서 유지)
+        Map<Long, Integer> subscriptionsByUser = new LinkedHashMap<>();
+        distinctUserIds.forEach(userId -> subscriptionsByUser.put(userId, 0));
+        List<PushSubscription> subscriptions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < distinctUserIds.size(); from += lookupChunkSize) {
+            List<Long> chunk = distinctUserIds.subList(from, Math.min(from + lookupChunkSize, distinctUserIds.size()));
+            for (Object[] row : pushSubscriptionRepository.findSubscriptionsByUserIds(chunk, now)) {
+                subscriptionsByUser.merge((Long) row[0], 1, Integer::sum);
+                subscriptions.add(PushSubscription.builder()
+                        .id((Long) row[1])
+                        .endpoint((String) row[2])
+                        .p256dhKey((String) row[3])
+                        .authKey((String) row[4])
+                        .build());
             }
         }
-        return successCount;
+
+        List<Long> noSubscriptionUserIds = new ArrayList<>();
+        subscriptionsByUser.forEach((userId, count) -> {
+            if (count == 0) {
+                noSubscriptionUserIds.add(userId);
+            }
+        });
+
+        BulkPushResultDTO.BulkPushResultDTOBuilder result = BulkPushResultDTO.builder()
+                .requestedCount(distinctUserIds.size())
+                .noSubscriptionUserIds(noSubscriptionUserIds)
+                .subscriptionsByUser(subscriptionsByUser);
+
+        if (subscriptions.isEmpty()) {
+            return result.build();
+        }
+
+        try {
+            String payloadJson = objectMapper.writeValueAsString(createPayload(title, body, url));
+
+            // 발송 대기열에 저장 (실제 전송과 재시도는 PushOutboxService에서 처리)
+            int queued = pushOutboxService.enqueue(subscriptions, payloadJson);
+            return result
+                    .notifiedCount(distinctUserIds.size() - noSubscriptionUserIds.size())
+                    .subscriptionCount(queued)
+                    .build();
+        } catch (Exception e) {
+            logger.error("대량 푸시 알림 저장 중 오류 발생: 사용자 {}명, 구독 {}건",
+                    distinctUserIds.size(), subscriptions.size(), e);
+            subscriptionsByUser.replaceAll((userId, count) -> 0);
+            return result.error(e.getMessage()).build();
+        }
     }
 
     /**
@@ -193,10 +216,22 @@ public class PushNotificationService {
     public int sendNearbyBusinessPushNotification(
             Double latitude, Double longitude, Double radius,
             String title, String body, String url) {
+        return sendNearbyBusinessPushNotification(latitude, longitude, radius, title, body, url, businessId -> true);
+    }
+
+    /**
+     * 주변 업체에게 푸시 알림 전송 (businessFilter를 통과한 업체만)
+     */
+    public int sendNearbyBusinessPushNotification(
+            Double latitude, Double longitude, Double radius,
+            String title, String body, String url, Predicate<Long> businessFilter) {
         try {
-            // 주변 업체 구독 정보 조회
+            // 주변 업체 구독 정보 조회 (위치 인덱스)
             List<PushSubscription> subscriptions =
-                    pushSubscriptionRepository.findNearbyBusinessSubscriptions(latitude, longitude, radius);
+                    businessSubscriptionRegistry.findWithinRadius(latitude, longitude, radius).entrySet().stream()
+                            .filter(entry -> businessFilter.test(entry.getKey()))
+                            .flatMap(entry -> entry.getValue().stream())
+                            .collect(Collectors.toList());
 
             if (subscriptions.isEmpty()) {
                 logger.warn("주변 업체 푸시 알림 전송 실패: 구독 정보 없음. 위치: {}, {}, 반경: {}km",
@@ -206,18 +241,9 @@ public class PushNotificationService {
 
             Map<String, Object> payload = createPayload(title, body, url);
             String payloadJson = objectMapper.writeValueAsString(payload);
-            int successCount = 0;
-
-            for (PushSubscription subscription : subscriptions) {
-                try {
-                    sendNotificationAsync(subscription, payloadJson);
-                    successCount++;
-                } catch (Exception e) {
-                    logger.error("주변 업체 푸시 알림 전송 실패: 엔드포인트: {}", subscription.getEndpoint(), e);
-                }
-            }
 
-            return successCount;
+            // 발송 대기열에 저장 (실제 전송과 재시도는 PushOutboxService에서 처리)
+            return pushOutboxService.enqueue(subscriptions, payloadJson);
         } catch (Exception e) {
             logger.error("주변 업체 푸시 알림 전송 중 오류 발생", e);
             return 0;
@@ -242,60 +268,6 @@ public class PushNotificationService {
         return payload;
     }
 
-    /**
-     * 비동기로 알림 전송
-     */
-    private void sendNotificationAsync(PushSubscription subscription, String payload) {
-        executorService.submit(() -> {
-            try {
-                Subscription webPushSubscription = new Subscription(
-                        subscription.getEndpoint(),
-                        new Subscription.Keys(subscription.getP256dhKey(), subscription.getAuthKey())
-                );
-
-                Notification notification = new Notification(webPushSubscription, payload);
-
-                try {
-                    pushService.send(notification);
-                    logger.debug("푸시 알림 전송 성공: 엔드포인트 {}", subscription.getEndpoint());
-                } catch (ExecutionException e) {
-                    // ExecutionException 처리
-                    logger.error("푸시 알림 전송 중 실행 오류: 엔드포인트 {}, 메시지: {}",
-                            subscription.getEndpoint(), e.getMessage(), e);
-
-                    // 구독이 만료되었거나 유효하지 않은 경우 삭제 처리
-                    if (isSubscriptionExpired(e)) {
-                        logger.info("만료된 구독 삭제: {}", subscription.getEndpoint());
-                        pushSubscriptionRepository.delete(subscription);
-                    }
-                } catch (GeneralSecurityException | IOException | JoseException | InterruptedException e) {
-                    logger.error("푸시 알림 전송 중 오류 발생: 엔드포인트 {}", subscription.getEndpoint(), e);
-
-                    // 구독이 만료되었거나 유효하지 않은 경우 삭제
-                    if (isSubscriptionExpired(e)) {
-                        logger.info("만료된 구독 삭제: {}", subscription.getEndpoint());
-                        pushSubscriptionRepository.delete(subscription);
-                    }
-                }
-            } catch (Exception e) {
-                logger.error("푸시 알림 처리 중 예상치 못한 오류 발생: 엔드포인트 {}",
-                        subscription.getEndpoint(), e);
-            }
-        });
-    }
-
-    /**
-     * 구독 만료 여부 확인
-     */
-    private boolean isSubscriptionExpired(Exception e) {
-        String errorMessage = e.getMessage();
-        return errorMessage != null && (
-                errorMessage.contains("410 Gone") ||
-                        errorMessage.contains("404 Not Found") ||
-                        errorMessage.contains("unsubscribed") ||
-                        errorMessage.contains("expired"));
-    }
-
     /**
      * 공개 키 조회 (프론트엔드에서 사용)
      */
@@ -0,0 +1,297 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.PushOutbox;
+import com.teolgogo.entity.PushSubscription;
+import com.teolgogo.repository.PushOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 푸시 알림 발송 대기열(push_outbox) 처리
+ * 알림은 먼저 테이블에 저장하고, 작업자가 SKIP LOCKED로 묶음 단위로 점유해 발송하므로
+ * 여러 서버가 동시에 처리해도 같은 항목을 중복으로 가져가지 않음
+ * 실패 시 지수 백오프(지터 포함)로 재시도하고 Retry-After가 있으면 그 이후로 미루며,
+ * 재시도 한도를 넘거나 영구 실패하면 DEAD로 남김
+ */
+@Service
+public class PushOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushOutboxService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO push_outbox (subscription_id, endpoint, p256dh_key, auth_key, payload, " +
+                    "status, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final PushSender pushSender;
+    private final PushDispatcher pushDispatcher;
+    private final PushSubscriptionHealthService pushSubscriptionHealthService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final long leaseSeconds;
+    private final int retentionDays;
+
+    private ScheduledExecutorService scheduler;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    @Autowired
+    public PushOutboxService(
+            PushOutboxRepository pushOutboxRepository,
+            PushSender pushSender,
+            PushDispatcher pushDispatcher,
+            PushSubscriptionHealthService pushSubscriptionHealthService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.push.outbox.batch-size:100}") int batchSize,
+            @Value("${app.push.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${app.push.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.push.outbox.backoff-base-ms:2000}") long backoffBaseMillis,
+            @Value("${app.push.outbox.backoff-max-ms:3600000}") long backoffMaxMillis,
+            @Value("${app.push.outbox.lease-seconds:120}") long leaseSeconds,
+            @Value("${app.push.outbox.retention-days:7}") int retentionDays) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.pushSender = pushSender;
+        this.pushDispatcher = pushDispatcher;
+        this.pushSubscriptionHealthService = pushSubscriptionHealthService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.leaseSeconds = leaseSeconds;
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "push-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, 1, 60, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 구독별 발송 항목 저장 (JDBC 배치 INSERT)
+     * 호출한 쪽의 트랜잭션(읽기 전용 포함)과 관계없이 바로 커밋하고,
+     * 커밋 후 다음 폴링 주기를 기다리지 않고 바로 발송 처리 시작
+     *
+     * @return 저장한 항목 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int enqueue(List<PushSubscription> subscriptions, String payload) {
+        if (subscriptions.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, subscriptions, INSERT_BATCH_SIZE, (ps, subscription) -> {
+            if (subscription.getId() != null) {
+                ps.setLong(1, subscription.getId());
+            } else {
+                ps.setNull(1, Types.BIGINT);
+            }
+            ps.setString(2, subscription.getEndpoint());
+            ps.setString(3, subscription.getP256dhKey());
+            ps.setString(4, subscription.getAuthKey());
+            ps.setString(5, payload);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+        return subscriptions.size();
+    }
+
+    /**
+     * 상태별 대기열 건수
+     */
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        for (PushOutbox.Status status : PushOutbox.Status.values()) {
+            if (status != PushOutbox.Status.SENT) {
+                metrics.put(status.name().toLowerCase(), pushOutboxRepository.countByStatus(status));
+            }
+        }
+        return metrics;
+    }
+
+    // 폴링 스레드에서 바로 한 번 처리 (단일 스레드라 주기 실행과 겹치지 않고, 연속 호출은 한 번으로 합침)
+    private void wakeUp() {
+        if (scheduler == null || !wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                wakeUpPending.set(false);
+                pollQuietly();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 다음 기동 시 처리
+            wakeUpPending.set(false);
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            // 전송 대기열이 밀려 있으면 더 가져오지 않음 (점유 시간 안에 처리하지 못하는 것 방지)
+            // 가져온 양이 묶음 크기와 같으면 남은 항목이 더 있을 수 있으므로 이어서 처리
+            int claimed = batchSize;
+            while (claimed == batchSize && pushDispatcher.getQueuedCount() < batchSize) {
+                claimed = poll();
+            }
+        } catch (Exception e) {
+            logger.error("푸시 발송 대기열 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 발송 시각이 된 항목을 점유하고 푸시 서비스별 전송 대기열에 넘김
+     *
+     * @return 점유한 항목 수
+     */
+    private int poll() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PushOutbox> claimed = transactionTemplate.execute(status -> {
+            List<PushOutbox> due = pushOutboxRepository.claimDue(now, batchSize);
+            for (PushOutbox entry : due) {
+                entry.setStatus(PushOutbox.Status.SENDING);
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+            }
+            return due;
+        });
+
+        if (claimed == null) {
+            return 0;
+        }
+
+        for (PushOutbox entry : claimed) {
+            boolean accepted = pushDispatcher.dispatch(entry.getEndpoint(), () -> deliver(entry));
+            if (!accepted) {
+                // 전송 대기열이 가득 차면 시도 횟수에 포함하지 않고 바로 되돌림
+                transactionTemplate.executeWithoutResult(status ->
+                        pushOutboxRepository.release(entry.getId(), entry.getAttempts(), LocalDateTime.now()));
+            }
+        }
+        return claimed.size();
+    }
+
+    private boolean deliver(PushOutbox entry) {
+        PushSender.PushResult result = pushSender.send(
+                entry.getSubscriptionId(), entry.getEndpoint(), entry.getP256dhKey(), entry.getAuthKey(), entry.getPayload());
+        LocalDateTime now = LocalDateTime.now();
+        pushSubscriptionHealthService.record(entry.getSubscriptionId(), result);
+
+        if (result.isSuccess()) {
+            record(entry, PushOutbox.Status.SENT, now, null, now);
+            return true;
+        }
+
+        if (result.isGone()) {
+            logger.info("만료된 구독 삭제: {}", entry.getEndpoint());
+            record(entry, PushOutbox.Status.DEAD, now, result.describe(), null);
+            pushSubscriptionHealthService.removeGone(entry.getEndpoint());
+            return false;
+        }
+
+        if (!result.isRetryable() || entry.getAttempts() >= maxAttempts) {
+            logger.warn("푸시 발송 포기: id={}, 시도 {}회, {}", entry.getId(), entry.getAttempts(), result.describe());
+            record(entry, PushOutbox.Status.DEAD, now, result.describe(), null);
+            return false;
+        }
+
+        LocalDateTime nextAttemptAt = now.plus(backoff(entry.getAttempts(), result.getRetryAfter()));
+        logger.debug("푸시 발송 재시도 예약: id={}, 다음 시도 {}, {}", entry.getId(), nextAttemptAt, result.describe());
+        record(entry, PushOutbox.Status.PENDING, nextAttemptAt, result.describe(), null);
+        return false;
+    }
+
+    /**
+     * 재시도 대기 시간: 기본값 * 2^(시도 횟수 - 1)을 상한으로 하는 구간에서 무작위 (절반은 보장)
+     * Retry-After가 더 길면 그 값을 따름
+     */
+    private Duration backoff(int attempts, Duration retryAfter) {
+        long exponential = backoffBaseMillis << Math.min(attempts - 1, 20);
+        long capped = Math.min(backoffMaxMillis, exponential);
+        long delay = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+
+        if (retryAfter != null && retryAfter.toMillis() > delay) {
+            delay = Math.min(retryAfter.toMillis(), backoffMaxMillis);
+        }
+        return Duration.ofMillis(delay);
+    }
+
+    private void record(PushOutbox entry, PushOutbox.Status status, LocalDateTime nextAttemptAt,
+                        String lastError, LocalDateTime sentAt) {
+        String error = lastError != null && lastError.length() > 500 ? lastError.substring(0, 500) : lastError;
+
+        Integer updated = transactionTemplate.execute(tx -> pushOutboxRepository.updateResult(
+                entry.getId(), entry.getAttempts(), status, nextAttemptAt, error, sentAt));
+
+        if (updated == null || updated == 0) {
+            logger.warn("푸시 발송 결과 반영 생략 (다른 작업자가 다시 점유): id={}", entry.getId());
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> pushOutboxRepository.deleteSentBefore(before, 1000));
+            } while (deleted == 1000);
+        } catch (Exception e) {
+            logger.error("발송 완료 항목 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.teolgogo.service;
+
+import jakarta.annotation.PostConstruct;
+import nl.martijndwars.webpush.AbstractPushService;
+import nl.martijndwars.webpush.Encoding;
+import nl.martijndwars.webpush.Encrypted;
+import nl.martijndwars.webpush.Utils;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 웹 푸시 HTTP 전송 (aes128gcm, VAPID)
+ * 한 번 전송하고 상태 코드와 Retry-After를 돌려주며, 재시도 여부는 호출하는 쪽에서 판단
+ * VAPID 토큰과 구독자 키는 PushCryptoCache에서 재사용하고, HTTP 연결은 공유 클라이언트로 유지
+ */
+@Component
+public class PushSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushSender.class);
+
+    private final PushCryptoCache pushCryptoCache;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int ttlSeconds;
+
+    @Value("${app.web-push.public-key}")
+    private String publicKey;
+
+    @Value("${app.web-push.private-key}")
+    private String privateKey;
+
+    @Value("${app.web-push.subject}")
+    private String subject;
+
+    private PrivateKey vapidPrivateKey;
+
+    @Autowired
+    public PushSender(
+            PushCryptoCache pushCryptoCache,
+            @Value("${app.web-push.request-timeout-seconds:10}") long requestTimeoutSeconds,
+            @Value("${app.web-push.ttl-seconds:2419200}") int ttlSeconds) {
+        this.pushCryptoCache = pushCryptoCache;
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.ttlSeconds = ttlSeconds;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        // BouncyCastle 보안 제공자 등록
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+
+        try {
+            // VAPID 키 초기화 (공개 키와 짝이 맞는지 확인)
+            vapidPrivateKey = Utils.loadPrivateKey(privateKey);
+            if (!Utils.verifyKeyPair(vapidPrivateKey, Utils.loadPublicKey(publicKey))) {
+                throw new IllegalStateException("VAPID 공개 키와 개인 키가 일치하지 않습니다.");
+            }
+            logger.info("웹 푸시 서비스 초기화 성공");
+        } catch (Exception e) {
+            vapidPrivateKey = null;
+            logger.error("웹 푸시 서비스 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 알림 한 건 전송
+     *
+     * @param subscriptionId 구독 ID (구독자 키 캐시 키, 없으면 캐시하지 않음)
+     */
+    public PushResult send(Long subscriptionId, String endpoint, String p256dhKey, String authKey, String payload) {
+        if (vapidPrivateKey == null) {
+            return PushResult.error("웹 푸시 서비스가 초기화되지 않았습니다.");
+        }
+
+        try {
+            URI uri = URI.create(endpoint);
+            PushCryptoCache.SubscriberKeys keys = pushCryptoCache.subscriberKeys(subscriptionId, p256dhKey, authKey);
+            Encrypted encrypted = AbstractPushService.encrypt(
+                    payload.getBytes(StandardCharsets.UTF_8), keys.getPublicKey(), keys.getAuth(), Encoding.AES128GCM);
+            String token = pushCryptoCache.vapidToken(origin(uri), subject, vapidPrivateKey);
+
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(requestTimeout)
+                    .header("TTL", String.valueOf(ttlSeconds))
+                    .header("Content-Type", "application/octet-stream")
+                    .header("Content-Encoding", "aes128gcm")
+                    .header("Authorization", "vapid t=" + token + ", k=" + publicKey)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(encrypted.getCiphertext()))
+                    .build();
+
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return new PushResult(response.statusCode(),
+                    parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null)), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return PushResult.error(e.getClass().getSimpleName() + ": " + e.getMessage());
+        } catch (Exception e) {
+            return PushResult.error(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    // VAPID aud 값 (scheme://host[:port])
+    private static String origin(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+    }
+
+    /**
+     * Retry-After 헤더 해석 (초 단위 숫자 또는 HTTP 날짜)
+     */
+    private static Duration parseRetryAfter(String header) {
+        if (header == null) {
+            return null;
+        }
+        String value = header.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 전송 결과
+     */
+    public static final class PushResult {
+        private final int statusCode;
+        private final Duration retryAfter;
+        private final String error;
+
+        private PushResult(int statusCode, Duration retryAfter, String error) {
+            this.statusCode = statusCode;
+            this.retryAfter = retryAfter;
+            this.error = error;
+        }
+
+        private static PushResult error(String message) {
+            return new PushResult(-1, null, message);
+        }
+
+        public boolean isSuccess() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        // 구독이 만료되었거나 해지됨
+        public boolean isGone() {
+            return statusCode == 404 || statusCode == 410;
+        }
+
+        // 네트워크 오류, 요청 제한, 서버 오류는 재시도
+        public boolean isRetryable() {
+            return statusCode == -1 || statusCode == 429 || statusCode >= 500;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        public String describe() {
+            return error != null ? error : "HTTP " + statusCode;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.teolgogo.service;
+
+import com.teolgogo.repository.PushSubscriptionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 푸시 구독 발송 상태 관리
+ *  - 발송 결과마다 마지막 성공 시각과 연속 실패 횟수를 기록
+ *  - 연속 실패가 기준을 넘으면 일정 시간 격리 (격리 중에는 발송 대상에서 제외, 해제 후 다시 시도)
+ *  - 주기적으로 만료되었거나 오랫동안 실패만 하는 구독을 묶어서 삭제
+ * 네트워크 오류와 요청 제한(429)은 구독 문제가 아니므로 실패로 세지 않음
+ */
+@Service
+public class PushSubscriptionHealthService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushSubscriptionHealthService.class);
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final PushSubscriptionRepository pushSubscriptionRepository;
+    private final BusinessSubscriptionRegistry businessSubscriptionRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int quarantineAfterFailures;
+    private final long quarantineMinutes;
+    private final int pruneAfterFailures;
+    private final long pruneAfterDays;
+    private final long sweepIntervalMinutes;
+    private final long successRefreshMinutes;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public PushSubscriptionHealthService(
+            PushSubscriptionRepository pushSubscriptionRepository,
+            BusinessSubscriptionRegistry businessSubscriptionRegistry,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.push.health.quarantine-after-failures:5}") int quarantineAfterFailures,
+            @Value("${app.push.health.quarantine-minutes:60}") long quarantineMinutes,
+            @Value("${app.push.health.prune-after-failures:20}") int pruneAfterFailures,
+            @Value("${app.push.health.prune-after-days:7}") long pruneAfterDays,
+            @Value("${app.push.health.sweep-interval-minutes:60}") long sweepIntervalMinutes,
+            @Value("${app.push.health.success-refresh-minutes:60}") long successRefreshMinutes) {
+        this.pushSubscriptionRepository = pushSubscriptionRepository;
+        this.businessSubscriptionRegistry = businessSubscriptionRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.quarantineAfterFailures = quarantineAfterFailures;
+        this.quarantineMinutes = quarantineMinutes;
+        this.pruneAfterFailures = pruneAfterFailures;
+        this.pruneAfterDays = pruneAfterDays;
+        this.sweepIntervalMinutes = sweepIntervalMinutes;
+        this.successRefreshMinutes = successRefreshMinutes;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "push-subscription-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly, sweepIntervalMinutes, sweepIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 발송 결과 반영
+     */
+    public void record(Long subscriptionId, PushSender.PushResult result) {
+        if (subscriptionId == null) {
+            return;
+        }
+        if (result.isSuccess()) {
+            recordSuccess(subscriptionId);
+        } else if (result.getStatusCode() != -1 && result.getStatusCode() != 429 && !result.isGone()) {
+            recordFailure(subscriptionId);
+        }
+    }
+
+    /**
+     * 만료되었거나 해지된 구독 삭제 (404/410)
+     */
+    public void removeGone(String endpoint) {
+        transactionTemplate.executeWithoutResult(status ->
+                pushSubscriptionRepository.findByEndpoint(endpoint).ifPresent(subscription -> {
+                    pushSubscriptionRepository.delete(subscription);
+                    businessSubscriptionRegistry.unsubscribed(subscription.getId(), subscription.getUser().getId());
+                }));
+    }
+
+    /**
+     * 격리 중인 구독 수
+     */
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("total", pushSubscriptionRepository.count());
+        metrics.put("quarantined", pushSubscriptionRepository.countByQuarantinedUntilAfter(LocalDateTime.now()));
+        return metrics;
+    }
+
+    private void recordSuccess(Long subscriptionId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status -> pushSubscriptionRepository.recordSuccess(
+                subscriptionId, now, now.minusMinutes(successRefreshMinutes)));
+        if (updated != null && updated > 0) {
+            businessSubscriptionRegistry.recovered(subscriptionId);
+        }
+    }
+
+    private void recordFailure(Long subscriptionId) {
+        LocalDateTime until = LocalDateTime.now().plusMinutes(quarantineMinutes);
+        transactionTemplate.executeWithoutResult(status -> {
+            pushSubscriptionRepository.recordFailure(subscriptionId);
+            if (pushSubscriptionRepository.quarantineIfFailing(subscriptionId, quarantineAfterFailures, until) > 0) {
+                logger.info("푸시 구독 격리: id={}, {}까지", subscriptionId, until);
+                businessSubscriptionRegistry.quarantined(subscriptionId, until);
+            }
+        });
+    }
+
+    private void sweepQuietly() {
+        try {
+            int deleted = sweep();
+            if (deleted > 0) {
+                logger.info("만료/실패 푸시 구독 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            logger.error("푸시 구독 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정리 대상 구독을 묶음 단위로 삭제
+     *
+     * @return 삭제한 구독 수
+     */
+    private int sweep() {
+        int total = 0;
+        int deleted;
+        do {
+            long nowMillis = System.currentTimeMillis();
+            LocalDateTime staleBefore = LocalDateTime.now().minusDays(pruneAfterDays);
+            deleted = transactionTemplate.execute(status -> {
+                List<Object[]> rows = pushSubscriptionRepository.findPrunable(
+                        nowMillis, pruneAfterFailures, staleBefore, PageRequest.of(0, SWEEP_BATCH_SIZE));
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                pushSubscriptionRepository.deleteAllByIdInBatch(
+                        rows.stream().map(row -> (Long) row[0]).collect(Collectors.toList()));
+                rows.forEach(row -> businessSubscriptionRegistry.unsubscribed((Long) row[0], (Long) row[1]));
+                return rows.size();
+            });
+            total += deleted;
+        } while (deleted == SWEEP_BATCH_SIZE);
+        return total;
+    }
+}
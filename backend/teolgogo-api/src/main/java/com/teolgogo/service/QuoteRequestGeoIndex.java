@@ -0,0 +1,124 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.QuoteRequest;
+import com.teolgogo.repository.QuoteRequestRepository;
+import com.teolgogo.util.GeoGridIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중(PENDING/OFFERED)인 견적 요청의 위치 인덱스
+ * 업체 대시보드의 반경 검색이 전체 테이블 스캔 없이 주변 셀만 조회하도록 함
+ */
+@Component
+public class QuoteRequestGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuoteRequestGeoIndex.class);
+
+    // 인덱스에 유지하는 상태
+    private static final Set<QuoteRequest.RequestStatus> INDEXED_STATUSES =
+            EnumSet.of(QuoteRequest.RequestStatus.PENDING, QuoteRequest.RequestStatus.OFFERED);
+
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final GeoGridIndex<IndexedRequest> index;
+
+    private volatile boolean ready = false;
+
+    @Autowired
+    public QuoteRequestGeoIndex(
+            QuoteRequestRepository quoteRequestRepository,
+            @Value("${app.geo.cell-size-degrees:0.05}") double cellSizeDegrees) {
+        this.quoteRequestRepository = quoteRequestRepository;
+        this.index = new GeoGridIndex<>(cellSizeDegrees);
+    }
+
+    /**
+     * 애플리케이션 시작 시 진행 중인 견적 요청 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        index.clear();
+        List<Object[]> rows = quoteRequestRepository.findLocationsByStatusIn(INDEXED_STATUSES);
+        for (Object[] row : rows) {
+            index.put((Long) row[0], (Double) row[1], (Double) row[2],
+                    new IndexedRequest((Long) row[0], (QuoteRequest.RequestStatus) row[3], (LocalDateTime) row[4]));
+        }
+        ready = true;
+        logger.info("견적 요청 위치 인덱스 적재 완료: {}건", index.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 견적 요청 상태/위치 변경 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영
+     */
+    public void update(QuoteRequest request) {
+        Long id = request.getId();
+        Double latitude = request.getLatitude();
+        Double longitude = request.getLongitude();
+        QuoteRequest.RequestStatus status = request.getStatus();
+        LocalDateTime createdAt = request.getCreatedAt();
+
+        Runnable apply = () -> {
+            if (status != null && INDEXED_STATUSES.contains(status) && latitude != null && longitude != null) {
+                index.put(id, latitude, longitude, new IndexedRequest(id, status, createdAt));
+            } else {
+                index.remove(id);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 반경(km) 내 특정 상태의 견적 요청 ID와 거리 조회 (최신순)
+     */
+    public List<GeoResult<Long>> findWithinRadius(QuoteRequest.RequestStatus status,
+                                                  double latitude, double longitude, double radiusKm) {
+        return index.findWithinRadius(latitude, longitude, radiusKm, entry -> entry.status == status)
+                .stream()
+                .sorted(Comparator.comparing((GeoResult<IndexedRequest> result) -> result.getContent().createdAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .map(result -> new GeoResult<>(result.getContent().id, result.getDistance()))
+                .collect(Collectors.toList());
+    }
+
+    private static final class IndexedRequest {
+        private final Long id;
+        private final QuoteRequest.RequestStatus status;
+        private final LocalDateTime createdAt;
+
+        private IndexedRequest(Long id, QuoteRequest.RequestStatus status, LocalDateTime createdAt) {
+            this.id = id;
+            this.status = status;
+            this.createdAt = createdAt;
+        }
+    }
+}
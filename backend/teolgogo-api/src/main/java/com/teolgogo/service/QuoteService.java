@@ -9,13 +9,21 @@ import com.teolgogo.entity.QuoteItem;
 import com.teolgogo.entity.QuoteRequest;
 import com.teolgogo.entity.QuoteResponse;
 import com.teolgogo.entity.User;
+import com.teolgogo.event.GroomingCompletedEvent;
+import com.teolgogo.event.OfferAcceptedEvent;
+import com.teolgogo.event.OfferCreatedEvent;
+import com.teolgogo.event.QuoteRequestCreatedEvent;
 import com.teolgogo.repository.QuoteRequestRepository;
 import com.teolgogo.repository.QuoteResponseRepository;
 import com.teolgogo.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -30,7 +38,13 @@ public class QuoteService {
     private final QuoteResponseRepository quoteResponseRepository;
     private final UserRepository userRepository;
     private final FileService fileService;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuoteRequestGeoIndex quoteRequestGeoIndex;
+    private final GeoQueryService geoQueryService;
+    private final BusinessSearchIndex businessSearchIndex;
+    private final BusinessStatsRollupService businessStatsRollupService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public QuoteService(
@@ -38,21 +52,44 @@ public class QuoteService {
             QuoteResponseRepository quoteResponseRepository,
             UserRepository userRepository,
             FileService fileService,
-            NotificationService notificationService) {
+            ApplicationEventPublisher eventPublisher,
+            QuoteRequestGeoIndex quoteRequestGeoIndex,
+            GeoQueryService geoQueryService,
+            BusinessSearchIndex businessSearchIndex,
+            BusinessStatsRollupService businessStatsRollupService,
+            UserSnapshotCache userSnapshotCache,
+            TransactionTemplate transactionTemplate) {
         this.quoteRequestRepository = quoteRequestRepository;
         this.quoteResponseRepository = quoteResponseRepository;
         this.userRepository = userRepository;
         this.fileService = fileService;
-        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.quoteRequestGeoIndex = quoteRequestGeoIndex;
+        this.geoQueryService = geoQueryService;
+        this.businessSearchIndex = businessSearchIndex;
+        this.businessStatsRollupService = businessStatsRollupService;
+        this.userSnapshotCache = userSnapshotCache;
+        this.transactionTemplate = transactionTemplate;
     }
 
     // 견적 요청 생성
-    @Transactional
+    // 사진은 트랜잭션 시작 전에 저장 (업로드마다 커넥션을 하나 더 잡지 않도록)
     public QuoteRequestDTO createQuoteRequest(User customer, CreateQuoteRequestDTO requestDTO, List<MultipartFile> petPhotos) {
         if (!customer.getRole().equals(User.Role.CUSTOMER)) {
             throw new AccessDeniedException("견적 요청은 고객만 가능합니다.");
         }
 
+        List<FileService.PreparedUpload> photos = prepareUploads(petPhotos, "반려동물 사진 업로드에 실패했습니다.");
+        try {
+            return transactionTemplate.execute(status -> saveQuoteRequest(customer, requestDTO, photos));
+        } catch (RuntimeException e) {
+            fileService.discardUploads(photos);
+            throw e;
+        }
+    }
+
+    private QuoteRequestDTO saveQuoteRequest(User customer, CreateQuoteRequestDTO requestDTO,
+                                             List<FileService.PreparedUpload> photos) {
         QuoteRequest quoteRequest = QuoteRequest.builder()
                 .customer(customer)
                 .petType(requestDTO.getPetType())
@@ -83,24 +120,22 @@ public class QuoteService {
         }
 
         QuoteRequest savedRequest = quoteRequestRepository.save(quoteRequest);
-
-        // 반려동물 사진 업로드 및 연결
-        if (petPhotos != null && !petPhotos.isEmpty()) {
-            for (MultipartFile photo : petPhotos) {
-                try {
-                    fileService.storeFile(
-                            photo,
-                            FileEntity.FileCategory.PET_PHOTO,
-                            customer.getId(),
-                            savedRequest.getId(),
-                            null
-                    );
-                } catch (IOException e) {
-                    throw new RuntimeException("반려동물 사진 업로드에 실패했습니다.", e);
-                }
-            }
+        quoteRequestGeoIndex.update(savedRequest);
+
+        // 반려동물 사진 연결
+        for (FileService.PreparedUpload photo : photos) {
+            fileService.saveUpload(
+                    photo,
+                    FileEntity.FileCategory.PET_PHOTO,
+                    customer.getId(),
+                    savedRequest.getId(),
+                    null
+            );
         }
 
+        // 주변 업체 알림은 커밋 이후 비동기로 처리
+        eventPublisher.publishEvent(new QuoteRequestCreatedEvent(savedRequest.getId()));
+
         return QuoteRequestDTO.fromEntity(savedRequest);
     }
 
@@ -148,16 +183,52 @@ public class QuoteService {
                     .collect(Collectors.toList());
         }
 
-        // 위치 기반 요청 필터링
-        List<QuoteRequest> requests = quoteRequestRepository.findByStatusAndLocation(
+        // 인덱스 적재 전에는 DB 반경 검색 사용
+        if (!quoteRequestGeoIndex.isReady()) {
+            return geoQueryService.findQuoteRequestsWithin(
+                            QuoteRequest.RequestStatus.PENDING,
+                            business.getLatitude(),
+                            business.getLongitude(),
+                            radius)
+                    .stream()
+                    .map(result -> toDistanceDTO(result.getContent(), result.getDistance()))
+                    .collect(Collectors.toList());
+        }
+
+        // 위치 인덱스에서 반경 내 요청 ID 조회 후 해당 요청만 로드
+        List<GeoResult<Long>> candidates = quoteRequestGeoIndex.findWithinRadius(
                 QuoteRequest.RequestStatus.PENDING,
                 business.getLatitude(),
                 business.getLongitude(),
                 radius);
 
-        return requests.stream()
-                .map(QuoteRequestDTO::fromEntity)
+        if (candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> requestIds = candidates.stream()
+                .map(GeoResult::getContent)
                 .collect(Collectors.toList());
+
+        Map<Long, QuoteRequest> requestsById = quoteRequestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(QuoteRequest::getId, request -> request));
+
+        // 인덱스 순서(최신순) 유지, 그 사이 상태가 바뀐 요청은 제외
+        List<QuoteRequestDTO> results = new ArrayList<>();
+        for (GeoResult<Long> candidate : candidates) {
+            QuoteRequest request = requestsById.get(candidate.getContent());
+            if (request != null && request.getStatus() == QuoteRequest.RequestStatus.PENDING) {
+                results.add(toDistanceDTO(request, candidate.getDistance()));
+            }
+        }
+        return results;
+    }
+
+    // 거리 정보를 포함한 견적 요청 DTO 변환
+    private QuoteRequestDTO toDistanceDTO(QuoteRequest request, Distance distance) {
+        QuoteRequestDTO dto = QuoteRequestDTO.fromEntity(request);
+        dto.setDistance(Math.round(distance.getValue() * 100) / 100.0);
+        return dto;
     }
 
     // 견적 요청 상세 조회
@@ -238,13 +309,17 @@ public class QuoteService {
                 .build();
 
         QuoteResponse savedResponse = quoteResponseRepository.save(quoteResponse);
+        businessStatsRollupService.recordOfferCreated(savedResponse);
 
         // 견적 요청 상태 업데이트
         if (request.getStatus() == QuoteRequest.RequestStatus.PENDING) {
             request.setStatus(QuoteRequest.RequestStatus.OFFERED);
             quoteRequestRepository.save(request);
+            quoteRequestGeoIndex.update(request);
         }
 
+        eventPublisher.publishEvent(new OfferCreatedEvent(savedResponse.getId()));
+
         return QuoteResponseDTO.fromEntity(savedResponse);
     }
 
@@ -272,16 +347,22 @@ public class QuoteService {
                 .orElseThrow(() -> new EntityNotFoundException("견적 제안을 찾을 수 없습니다."));
 
         // 견적 상태 업데이트
+        boolean alreadyAccepted = offer.getStatus() == QuoteResponse.ResponseStatus.ACCEPTED;
         offer.setStatus(QuoteResponse.ResponseStatus.ACCEPTED);
 
         // 결제 상태 업데이트
         offer.setPaymentStatus(QuoteResponse.PaymentStatus.PAID);
         QuoteResponse acceptedOffer = quoteResponseRepository.save(offer);
+        if (!alreadyAccepted) {
+            businessStatsRollupService.recordOfferAccepted(acceptedOffer);
+        }
 
         // 업체의 완료된 서비스 수 증가
         User business = offer.getBusiness();
         business.incrementCompletedServices();
         userRepository.save(business);
+        businessSearchIndex.update(business);
+        userSnapshotCache.evict(business.getId());
 
         // 다른 제안들은 거절 상태로 변경
         request.getResponses().stream()
@@ -294,18 +375,42 @@ public class QuoteService {
         // 견적 요청 상태 업데이트
         request.setStatus(QuoteRequest.RequestStatus.ACCEPTED);
         quoteRequestRepository.save(request);
+        quoteRequestGeoIndex.update(request);
+
+        eventPublisher.publishEvent(new OfferAcceptedEvent(acceptedOffer.getId()));
 
         return QuoteResponseDTO.fromEntity(acceptedOffer);
     }
 
     /**
      * 미용 완료 후 사진 업로드 (업체용)
+     * 사진은 트랜잭션 시작 전에 저장하고, 권한이나 상태 확인에 실패하면 되돌림
      */
-    @Transactional
     public void uploadGroomingPhotos(Long businessId, Long quoteResponseId,
                                      List<MultipartFile> beforePhotos,
                                      List<MultipartFile> afterPhotos) {
+        List<FileService.PreparedUpload> before = prepareUploads(beforePhotos, "미용 전 사진 업로드에 실패했습니다.");
+        List<FileService.PreparedUpload> after;
+        try {
+            after = prepareUploads(afterPhotos, "미용 후 사진 업로드에 실패했습니다.");
+        } catch (RuntimeException e) {
+            fileService.discardUploads(before);
+            throw e;
+        }
 
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    completeGrooming(businessId, quoteResponseId, before, after));
+        } catch (RuntimeException e) {
+            fileService.discardUploads(before);
+            fileService.discardUploads(after);
+            throw e;
+        }
+    }
+
+    private void completeGrooming(Long businessId, Long quoteResponseId,
+                                  List<FileService.PreparedUpload> beforePhotos,
+                                  List<FileService.PreparedUpload> afterPhotos) {
         QuoteResponse quoteResponse = quoteResponseRepository.findById(quoteResponseId)
                 .orElseThrow(() -> new EntityNotFoundException("견적 응답을 찾을 수 없습니다."));
 
@@ -319,43 +424,43 @@ public class QuoteService {
             throw new IllegalStateException("수락된 견적만 사진을 업로드할 수 있습니다.");
         }
 
-        // 미용 전 사진 업로드
-        if (beforePhotos != null && !beforePhotos.isEmpty()) {
-            for (MultipartFile photo : beforePhotos) {
-                try {
-                    fileService.storeFile(
-                            photo,
-                            FileEntity.FileCategory.BEFORE_GROOMING,
-                            businessId,
-                            null,
-                            quoteResponseId
-                    );
-                } catch (IOException e) {
-                    throw new RuntimeException("미용 전 사진 업로드에 실패했습니다.", e);
-                }
-            }
+        // 미용 전 사진 연결
+        for (FileService.PreparedUpload photo : beforePhotos) {
+            fileService.saveUpload(
+                    photo,
+                    FileEntity.FileCategory.BEFORE_GROOMING,
+                    businessId,
+                    null,
+                    quoteResponseId
+            );
         }
 
-        // 미용 후 사진 업로드
-        if (afterPhotos != null && !afterPhotos.isEmpty()) {
-            for (MultipartFile photo : afterPhotos) {
-                try {
-                    fileService.storeFile(
-                            photo,
-                            FileEntity.FileCategory.AFTER_GROOMING,
-                            businessId,
-                            null,
-                            quoteResponseId
-                    );
-                } catch (IOException e) {
-                    throw new RuntimeException("미용 후 사진 업로드에 실패했습니다.", e);
-                }
-            }
+        // 미용 후 사진 연결
+        for (FileService.PreparedUpload photo : afterPhotos) {
+            fileService.saveUpload(
+                    photo,
+                    FileEntity.FileCategory.AFTER_GROOMING,
+                    businessId,
+                    null,
+                    quoteResponseId
+            );
         }
 
         // 견적 요청 상태를 COMPLETED로 변경
         QuoteRequest quoteRequest = quoteResponse.getQuoteRequest();
         quoteRequest.setStatus(QuoteRequest.RequestStatus.COMPLETED);
         quoteRequestRepository.save(quoteRequest);
+        quoteRequestGeoIndex.update(quoteRequest);
+
+        eventPublisher.publishEvent(new GroomingCompletedEvent(quoteResponseId));
+    }
+
+    // 사진 파일을 트랜잭션 밖에서 미리 저장 (실패하면 앞서 저장한 사진까지 되돌림)
+    private List<FileService.PreparedUpload> prepareUploads(List<MultipartFile> photos, String errorMessage) {
+        try {
+            return fileService.prepareUploads(photos);
+        } catch (IOException e) {
+            throw new RuntimeException(errorMessage, e);
+        }
     }
-}
\ No newline at end of file
+}
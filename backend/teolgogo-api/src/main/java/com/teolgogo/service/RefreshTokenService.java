@@ -0,0 +1,204 @@
+package com.teolgogo.service;
+
+import com.teolgogo.dto.TokenResponse;
+import com.teolgogo.entity.RefreshTokenFamily;
+import com.teolgogo.entity.User;
+import com.teolgogo.repository.RefreshTokenFamilyRepository;
+import com.teolgogo.security.JwtTokenProvider;
+import com.teolgogo.security.TokenFamilyDenylist;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 계열 관리
+ * 로그인마다 계열을 만들고, 갱신할 때마다 새 리프레시 토큰을 발급해 이전 토큰은 더 이상 쓰지 못하게 함
+ * 이미 사용된 토큰이 다시 들어오면 탈취로 보고 계열 전체를 폐기
+ * (폐기된 계열의 액세스 토큰도 TokenFamilyDenylist에서 바로 거부)
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    public static final String REASON_LOGOUT = "LOGOUT";
+    public static final String REASON_LOGOUT_ALL = "LOGOUT_ALL";
+    public static final String REASON_REUSE = "REUSE";
+
+    private enum Outcome {
+        ROTATED,  // 새 리프레시 토큰 발급
+        GRACE,    // 방금 교체된 토큰의 동시 요청 (액세스 토큰만 발급)
+        REUSED,   // 이미 사용된 토큰 재사용 (계열 폐기)
+        INVALID   // 없는 계열 또는 폐기된 계열
+    }
+
+    private final RefreshTokenFamilyRepository familyRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final TokenFamilyDenylist denylist;
+    private final UserSnapshotCache userSnapshotCache;
+    private final TransactionTemplate transactionTemplate;
+    private final long reuseGraceMillis;
+
+    @Autowired
+    public RefreshTokenService(
+            RefreshTokenFamilyRepository familyRepository,
+            JwtTokenProvider tokenProvider,
+            TokenFamilyDenylist denylist,
+            UserSnapshotCache userSnapshotCache,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.auth.refresh-reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.familyRepository = familyRepository;
+        this.tokenProvider = tokenProvider;
+        this.denylist = denylist;
+        this.userSnapshotCache = userSnapshotCache;
+        this.transactionTemplate = transactionTemplate;
+        this.reuseGraceMillis = reuseGraceSeconds * 1000;
+    }
+
+    /**
+     * 로그인 시 새 계열을 만들고 액세스/리프레시 토큰 발급
+     */
+    public TokenResponse issue(User user) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+
+        transactionTemplate.executeWithoutResult(status -> familyRepository.save(RefreshTokenFamily.builder()
+                .id(familyId)
+                .userId(user.getId())
+                .currentTokenId(tokenId)
+                .expiresAt(refreshExpiresAt(LocalDateTime.now()))
+                .build()));
+
+        return buildResponse(user, familyId, tokenId);
+    }
+
+    /**
+     * 리프레시 토큰으로 토큰 재발급 (사용한 리프레시 토큰은 교체)
+     * 동시 요청으로 방금 교체된 토큰이 들어오면 리프레시 토큰 없이 액세스 토큰만 발급
+     */
+    public TokenResponse rotate(String refreshToken) {
+        Claims claims = tokenProvider.validateAndGetClaims(refreshToken);
+        String familyId = claims != null ? claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class) : null;
+        String tokenId = claims != null ? claims.getId() : null;
+
+        // 계열 정보가 없는 토큰(액세스 토큰, 이전 형식 토큰)과 폐기된 계열은 DB 조회 없이 거부
+        if (familyId == null || tokenId == null || denylist.isRevoked(familyId)) {
+            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        String[] nextTokenId = new String[1];
+        LocalDateTime[] familyExpiresAt = new LocalDateTime[1];
+
+        Outcome outcome = transactionTemplate.execute(status -> {
+            RefreshTokenFamily family = familyRepository.findByIdForUpdate(familyId).orElse(null);
+            if (family == null || family.getRevokedAt() != null) {
+                return Outcome.INVALID;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            if (tokenId.equals(family.getCurrentTokenId())) {
+                nextTokenId[0] = UUID.randomUUID().toString();
+                family.setPreviousTokenId(tokenId);
+                family.setCurrentTokenId(nextTokenId[0]);
+                family.setRotatedAt(now);
+                family.setExpiresAt(refreshExpiresAt(now));
+                return Outcome.ROTATED;
+            }
+
+            if (tokenId.equals(family.getPreviousTokenId()) && family.getRotatedAt() != null
+                    && family.getRotatedAt().plus(reuseGraceMillis, ChronoUnit.MILLIS).isAfter(now)) {
+                return Outcome.GRACE;
+            }
+
+            family.setRevokedAt(now);
+            family.setRevokeReason(REASON_REUSE);
+            familyExpiresAt[0] = family.getExpiresAt();
+            return Outcome.REUSED;
+        });
+
+        if (outcome == Outcome.REUSED) {
+            denylist.add(familyId, familyExpiresAt[0]);
+            logger.warn("리프레시 토큰 재사용 감지, 계열 폐기: 사용자 {}, 계열 {}", claims.getSubject(), familyId);
+        }
+        if (outcome != Outcome.ROTATED && outcome != Outcome.GRACE) {
+            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        User user = userSnapshotCache.get(Long.parseLong(claims.getSubject()));
+        return outcome == Outcome.ROTATED
+                ? buildResponse(user, familyId, nextTokenId[0])
+                : buildResponse(user, familyId, null);
+    }
+
+    /**
+     * 리프레시 토큰이 속한 계열 폐기 (로그아웃)
+     * 만료되었거나 위조된 토큰은 무시
+     */
+    public void revoke(String refreshToken, String reason) {
+        Claims claims = tokenProvider.validateAndGetClaims(refreshToken);
+        String familyId = claims != null ? claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class) : null;
+        if (familyId == null) {
+            return;
+        }
+
+        LocalDateTime expiresAt = transactionTemplate.execute(status -> {
+            RefreshTokenFamily family = familyRepository.findByIdForUpdate(familyId).orElse(null);
+            if (family == null || family.getRevokedAt() != null) {
+                return null;
+            }
+            family.setRevokedAt(LocalDateTime.now());
+            family.setRevokeReason(reason);
+            return family.getExpiresAt();
+        });
+
+        if (expiresAt != null) {
+            denylist.add(familyId, expiresAt);
+        }
+    }
+
+    /**
+     * 사용자의 모든 계열 폐기 (모든 기기에서 로그아웃)
+     */
+    public int revokeAll(Long userId, String reason) {
+        List<Object[]> families = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> active = familyRepository.findActiveByUserId(userId, now);
+            familyRepository.revokeAllByUserId(userId, reason, now);
+            return active;
+        });
+
+        for (Object[] row : families) {
+            denylist.add((String) row[0], (LocalDateTime) row[1]);
+        }
+        logger.info("사용자 {}의 토큰 계열 {}건 폐기 ({})", userId, families.size(), reason);
+        return families.size();
+    }
+
+    public int getRefreshTokenMaxAge() {
+        return (int) (tokenProvider.getRefreshTokenExpirationMsec() / 1000);
+    }
+
+    private TokenResponse buildResponse(User user, String familyId, String refreshTokenId) {
+        return TokenResponse.builder()
+                .accessToken(tokenProvider.createAccessToken(user, familyId))
+                .refreshToken(refreshTokenId != null
+                        ? tokenProvider.createRefreshToken(user, familyId, refreshTokenId)
+                        : null)
+                .tokenType("Bearer")
+                .expiresIn(tokenProvider.getAccessTokenExpirationMsec() / 1000)
+                .build();
+    }
+
+    private LocalDateTime refreshExpiresAt(LocalDateTime now) {
+        return now.plus(tokenProvider.getRefreshTokenExpirationMsec(), ChronoUnit.MILLIS);
+    }
+}
@@ -3,16 +3,19 @@ package com.teolgogo.service;
 import com.teolgogo.entity.QuoteResponse;
 import com.teolgogo.entity.Review;
 import com.teolgogo.entity.User;
+import com.teolgogo.event.ReviewCreatedEvent;
 import com.teolgogo.repository.QuoteResponseRepository;
 import com.teolgogo.repository.ReviewRepository;
 import com.teolgogo.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,18 +27,30 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final QuoteResponseRepository quoteResponseRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusinessStatsRollupService businessStatsRollupService;
+    private final BusinessSearchIndex businessSearchIndex;
+    private final DailyStatisticsService dailyStatisticsService;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Autowired
     public ReviewService(
             ReviewRepository reviewRepository,
             QuoteResponseRepository quoteResponseRepository,
             UserRepository userRepository,
-            NotificationService notificationService) {
+            ApplicationEventPublisher eventPublisher,
+            BusinessStatsRollupService businessStatsRollupService,
+            BusinessSearchIndex businessSearchIndex,
+            DailyStatisticsService dailyStatisticsService,
+            UserSnapshotCache userSnapshotCache) {
         this.reviewRepository = reviewRepository;
         this.quoteResponseRepository = quoteResponseRepository;
         this.userRepository = userRepository;
-        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.businessStatsRollupService = businessStatsRollupService;
+        this.businessSearchIndex = businessSearchIndex;
+        this.dailyStatisticsService = dailyStatisticsService;
+        this.userSnapshotCache = userSnapshotCache;
     }
 
     /**
@@ -79,24 +94,18 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        businessStatsRollupService.recordReviewCreated(business.getId(), rating, tags);
 
         // 업체의 평균 평점 업데이트
         updateBusinessAverageRating(business.getId());
 
-        // 업체에게 리뷰 알림 전송 - 수정된 부분
-        // 기존: notificationService.sendReviewNotification(savedReview.getId());
-
-        // 옵션 1: 호환성을 위해 유지된 sendReviewNotification 메소드 사용
-        notificationService.sendReviewNotification(savedReview.getId());
-
-        /* 옵션 2: 새로운 상세 알림 메소드 사용 (선택적 적용)
-        notificationService.sendNewReviewNotification(
-            savedReview.getId(),
-            business.getId(),
-            customer.getName(),
-            rating
-        );
-        */
+        // 업체에게 리뷰 알림 전송 (커밋 이후 비동기)
+        eventPublisher.publishEvent(new ReviewCreatedEvent(
+                savedReview.getId(),
+                business.getId(),
+                customer.getName(),
+                rating
+        ));
 
         return savedReview;
     }
@@ -119,12 +128,20 @@ public class ReviewService {
             throw new IllegalArgumentException("평점은 1-5 사이여야 합니다.");
         }
 
+        // 변경 전 평점/태그 (통계 카운터 보정용)
+        Integer oldRating = review.getRating();
+        List<String> oldTags = review.getTags() != null ? new ArrayList<>(review.getTags()) : null;
+
         // 리뷰 업데이트
         review.setRating(rating);
         review.setContent(content);
         review.setTags(tags);
 
         Review updatedReview = reviewRepository.save(review);
+        businessStatsRollupService.recordReviewUpdated(
+                review.getBusiness().getId(), oldRating, oldTags, rating, tags);
+        dailyStatisticsService.recordReviewChange(review.getCreatedAt(), 0,
+                rating - (oldRating != null ? oldRating : 0));
 
         // 업체의 평균 평점 업데이트
         updateBusinessAverageRating(review.getBusiness().getId());
@@ -146,8 +163,12 @@ public class ReviewService {
         }
 
         Long businessId = review.getBusiness().getId();
+        Integer rating = review.getRating();
+        List<String> tags = review.getTags() != null ? new ArrayList<>(review.getTags()) : null;
 
         reviewRepository.delete(review);
+        businessStatsRollupService.recordReviewDeleted(businessId, rating, tags);
+        dailyStatisticsService.recordReviewChange(review.getCreatedAt(), -1, -(rating != null ? rating : 0));
 
         // 업체의 평균 평점 업데이트
         updateBusinessAverageRating(businessId);
@@ -207,9 +228,10 @@ public class ReviewService {
         User business = userRepository.findById(businessId)
                 .orElseThrow(() -> new EntityNotFoundException("업체를 찾을 수 없습니다."));
 
-        // TODO: User 엔티티에 averageRating 필드 추가 필요
-        // business.setAverageRating(averageRating);
-        // userRepository.save(business);
+        business.updateAverageRating(averageRating != null ? Math.round(averageRating * 10) / 10.0 : 0.0);
+        userRepository.save(business);
+        businessSearchIndex.update(business);
+        userSnapshotCache.evict(businessId);
     }
 
     /**
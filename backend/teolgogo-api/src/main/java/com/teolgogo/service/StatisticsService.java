@@ -10,39 +10,36 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 // import javax.persistence.EntityNotFoundException;
-import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class StatisticsService {
 
     private final QuoteRequestRepository quoteRequestRepository;
     private final QuoteResponseRepository quoteResponseRepository;
-    private final PaymentRepository paymentRepository;
-    private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final BusinessStatsRollupService businessStatsRollupService;
+    private final DailyStatisticsService dailyStatisticsService;
 
     @Autowired
     public StatisticsService(
             QuoteRequestRepository quoteRequestRepository,
             QuoteResponseRepository quoteResponseRepository,
-            PaymentRepository paymentRepository,
-            ReviewRepository reviewRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            BusinessStatsRollupService businessStatsRollupService,
+            DailyStatisticsService dailyStatisticsService) {
         this.quoteRequestRepository = quoteRequestRepository;
         this.quoteResponseRepository = quoteResponseRepository;
-        this.paymentRepository = paymentRepository;
-        this.reviewRepository = reviewRepository;
         this.userRepository = userRepository;
+        this.businessStatsRollupService = businessStatsRollupService;
+        this.dailyStatisticsService = dailyStatisticsService;
     }
 
     /**
      * 업체 통계 조회
+     * 이벤트 시점에 누적된 카운터만 읽음 (카운터 초기 집계가 필요하면 별도 쓰기 트랜잭션으로 처리)
      */
-    @Transactional(readOnly = true)
     public BusinessStatisticsDTO getBusinessStatistics(Long businessId) {
         User business = userRepository.findById(businessId)
                 .orElseThrow(() -> new EntityNotFoundException("업체를 찾을 수 없습니다."));
@@ -51,153 +48,112 @@ public class StatisticsService {
             throw new IllegalArgumentException("업체 회원만 통계를 조회할 수 있습니다.");
         }
 
+        Map<BusinessStatsCounter.Metric, Map<String, Long>> counters = businessStatsRollupService.getCounters(businessId);
+
         BusinessStatisticsDTO.BusinessStatisticsDTOBuilder builder = BusinessStatisticsDTO.builder()
                 .businessId(businessId)
                 .businessName(business.getBusinessName() != null ? business.getBusinessName() : business.getName());
 
         // 견적 관련 통계
-        List<QuoteResponse> allOffers = quoteResponseRepository.findByBusinessId(businessId);
-        List<QuoteResponse> acceptedOffers = allOffers.stream()
-                .filter(offer -> offer.getStatus() == QuoteResponse.ResponseStatus.ACCEPTED)
-                .collect(Collectors.toList());
+        int totalOffers = (int) total(counters, BusinessStatsCounter.Metric.OFFERS);
+        int acceptedOffers = (int) total(counters, BusinessStatsCounter.Metric.ACCEPTED_OFFERS);
 
-        builder.totalQuoteOffers(allOffers.size());
-        builder.acceptedQuoteOffers(acceptedOffers.size());
+        builder.totalQuoteOffers(totalOffers);
+        builder.acceptedQuoteOffers(acceptedOffers);
 
         // 견적 수락률
-        double acceptanceRate = allOffers.isEmpty() ? 0 : (double) acceptedOffers.size() / allOffers.size() * 100;
+        double acceptanceRate = totalOffers == 0 ? 0 : (double) acceptedOffers / totalOffers * 100;
         builder.acceptanceRate(Math.round(acceptanceRate * 100) / 100.0);
 
         // 매출 관련 통계
-        List<Payment> payments = paymentRepository.findByBusinessId(businessId);
-        List<Payment> completedPayments = payments.stream()
-                .filter(payment -> payment.getStatus() == Payment.PaymentStatus.DONE)
-                .collect(Collectors.toList());
-
-        int totalRevenue = completedPayments.stream()
-                .mapToInt(Payment::getAmount)
-                .sum();
-
-        int averageRevenue = completedPayments.isEmpty() ? 0 : totalRevenue / completedPayments.size();
+        int completedPayments = (int) total(counters, BusinessStatsCounter.Metric.COMPLETED_PAYMENTS);
+        int totalRevenue = (int) total(counters, BusinessStatsCounter.Metric.REVENUE);
+        int averageRevenue = completedPayments == 0 ? 0 : totalRevenue / completedPayments;
 
         builder.totalRevenue(totalRevenue);
         builder.averageRevenue(averageRevenue);
 
-        // 월별 매출
-        Map<String, Integer> revenueByMonth = new HashMap<>();
-        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
-        completedPayments.forEach(payment -> {
-            String month = payment.getPaidAt().format(monthFormatter);
-            revenueByMonth.put(month, revenueByMonth.getOrDefault(month, 0) + payment.getAmount());
-        });
-
-        builder.revenueByMonth(revenueByMonth);
-
-        // 서비스 유형별 매출
-        Map<String, Integer> revenueByService = new HashMap<>();
-        completedPayments.forEach(payment -> {
-            QuoteRequest request = payment.getQuoteResponse().getQuoteRequest();
-            String serviceType = request.getServiceType().getDisplayName();
-            revenueByService.put(serviceType, revenueByService.getOrDefault(serviceType, 0) + payment.getAmount());
-        });
-
-        builder.revenueByService(revenueByService);
+        // 월별 매출, 서비스 유형별 매출
+        builder.revenueByMonth(buckets(counters, BusinessStatsCounter.Metric.REVENUE_BY_MONTH));
+        builder.revenueByService(buckets(counters, BusinessStatsCounter.Metric.REVENUE_BY_SERVICE));
 
         // 리뷰 관련 통계
-        List<Review> reviews = reviewRepository.findByBusinessId(businessId);
-        Double averageRating = reviewRepository.calculateAverageRatingByBusinessId(businessId);
+        int totalReviews = (int) total(counters, BusinessStatsCounter.Metric.REVIEWS);
+        long ratingSum = total(counters, BusinessStatsCounter.Metric.RATING_SUM);
 
-        builder.totalReviews(reviews.size());
-        builder.averageRating(averageRating != null ? Math.round(averageRating * 10) / 10.0 : 0.0);
+        builder.totalReviews(totalReviews);
+        builder.averageRating(totalReviews == 0 ? 0.0 : Math.round((double) ratingSum / totalReviews * 10) / 10.0);
 
         // 평점 분포
         Map<Integer, Integer> ratingDistribution = new HashMap<>();
-        reviews.forEach(review -> {
-            ratingDistribution.put(review.getRating(), ratingDistribution.getOrDefault(review.getRating(), 0) + 1);
-        });
+        buckets(counters, BusinessStatsCounter.Metric.RATING_DISTRIBUTION)
+                .forEach((rating, count) -> ratingDistribution.put(Integer.valueOf(rating), count));
 
         builder.ratingDistribution(ratingDistribution);
 
         // 인기 태그
-        Map<String, Integer> popularTags = new HashMap<>();
-        reviews.forEach(review -> {
-            if (review.getTags() != null) {
-                review.getTags().forEach(tag -> {
-                    popularTags.put(tag, popularTags.getOrDefault(tag, 0) + 1);
-                });
-            }
-        });
+        builder.popularTags(buckets(counters, BusinessStatsCounter.Metric.TAGS));
 
-        builder.popularTags(popularTags);
+        // 요일별, 시간대별 요청 수
+        builder.requestsByDay(buckets(counters, BusinessStatsCounter.Metric.REQUESTS_BY_DAY));
+        builder.requestsByHour(buckets(counters, BusinessStatsCounter.Metric.REQUESTS_BY_HOUR));
 
-        // 요일별 요청 수
-        Map<String, Integer> requestsByDay = new HashMap<>();
-        allOffers.forEach(offer -> {
-            QuoteRequest request = offer.getQuoteRequest();
-            DayOfWeek dayOfWeek = request.getCreatedAt().getDayOfWeek();
-            String day = dayOfWeek.toString();
-            requestsByDay.put(day, requestsByDay.getOrDefault(day, 0) + 1);
-        });
+        return builder.build();
+    }
 
-        builder.requestsByDay(requestsByDay);
+    // 구분 값 없는 카운터 값
+    private long total(Map<BusinessStatsCounter.Metric, Map<String, Long>> counters, BusinessStatsCounter.Metric metric) {
+        return counters.getOrDefault(metric, Map.of()).getOrDefault("", 0L);
+    }
 
-        // 시간대별 요청 수
-        Map<String, Integer> requestsByHour = new HashMap<>();
-        allOffers.forEach(offer -> {
-            QuoteRequest request = offer.getQuoteRequest();
-            int hour = request.getCreatedAt().getHour();
-            String hourStr = hour + "시";
-            requestsByHour.put(hourStr, requestsByHour.getOrDefault(hourStr, 0) + 1);
+    // 구분 값별 카운터 (0 이하인 항목 제외)
+    private Map<String, Integer> buckets(Map<BusinessStatsCounter.Metric, Map<String, Long>> counters,
+                                         BusinessStatsCounter.Metric metric) {
+        Map<String, Integer> result = new HashMap<>();
+        counters.getOrDefault(metric, Map.of()).forEach((bucket, value) -> {
+            if (value > 0) {
+                result.put(bucket, value.intValue());
+            }
         });
-
-        builder.requestsByHour(requestsByHour);
-
-        return builder.build();
+        return result;
     }
 
     /**
      * 서비스 유형별 통계 조회
+     * 유형별/월별 집계 쿼리 결과(스칼라 값)만 사용하므로 데이터 양과 무관하게 쿼리 수가 일정
      */
     @Transactional(readOnly = true)
     public ServiceStatisticsDTO getServiceStatistics() {
         ServiceStatisticsDTO.ServiceStatisticsDTOBuilder builder = ServiceStatisticsDTO.builder();
 
-        // 서비스 유형별 요청 수
+        // 서비스 유형별 요청 수 (요청이 없는 유형은 0)
         Map<String, Integer> requestsByServiceType = new HashMap<>();
         for (QuoteRequest.ServiceType serviceType : QuoteRequest.ServiceType.values()) {
-            List<QuoteRequest> requests = quoteRequestRepository.findByServiceType(serviceType);
-            requestsByServiceType.put(serviceType.getDisplayName(), requests.size());
+            requestsByServiceType.put(serviceType.getDisplayName(), 0);
+        }
+
+        int totalRequests = 0;
+        for (Object[] row : quoteRequestRepository.countGroupByServiceType()) {
+            int count = ((Long) row[1]).intValue();
+            totalRequests += count;
+            if (row[0] != null) {
+                requestsByServiceType.put(((QuoteRequest.ServiceType) row[0]).getDisplayName(), count);
+            }
         }
 
         builder.requestsByServiceType(requestsByServiceType);
 
-        // 서비스 유형별 평균 가격
+        // 서비스 유형별 평균 가격 (수락된 견적 기준)
         Map<String, Double> averagePriceByServiceType = new HashMap<>();
         for (QuoteRequest.ServiceType serviceType : QuoteRequest.ServiceType.values()) {
-            List<QuoteRequest> requests = quoteRequestRepository.findByServiceType(serviceType);
-
-            if (!requests.isEmpty()) {
-                List<Integer> prices = new ArrayList<>();
-
-                for (QuoteRequest request : requests) {
-                    List<QuoteResponse> responses = quoteResponseRepository.findByQuoteRequestId(request.getId());
-
-                    for (QuoteResponse response : responses) {
-                        if (response.getStatus() == QuoteResponse.ResponseStatus.ACCEPTED) {
-                            prices.add(response.getPrice());
-                            break;
-                        }
-                    }
-                }
-
-                if (!prices.isEmpty()) {
-                    double averagePrice = prices.stream().mapToInt(Integer::intValue).average().orElse(0);
-                    averagePriceByServiceType.put(serviceType.getDisplayName(), Math.round(averagePrice * 100) / 100.0);
-                } else {
-                    averagePriceByServiceType.put(serviceType.getDisplayName(), 0.0);
-                }
-            } else {
-                averagePriceByServiceType.put(serviceType.getDisplayName(), 0.0);
+            averagePriceByServiceType.put(serviceType.getDisplayName(), 0.0);
+        }
+
+        for (Object[] row : quoteResponseRepository.averageAcceptedPriceGroupByServiceType()) {
+            if (row[0] != null && row[1] != null) {
+                double averagePrice = ((Number) row[1]).doubleValue();
+                averagePriceByServiceType.put(((QuoteRequest.ServiceType) row[0]).getDisplayName(),
+                        Math.round(averagePrice * 100) / 100.0);
             }
         }
 
@@ -206,46 +162,40 @@ public class StatisticsService {
         // 반려동물 유형별 요청 수
         Map<String, Integer> requestsByPetType = new HashMap<>();
         for (QuoteRequest.PetType petType : QuoteRequest.PetType.values()) {
-            List<QuoteRequest> requests = quoteRequestRepository.findByPetType(petType);
-            requestsByPetType.put(petType.name(), requests.size());
+            requestsByPetType.put(petType.name(), 0);
+        }
+
+        for (Object[] row : quoteRequestRepository.countGroupByPetType()) {
+            if (row[0] != null) {
+                requestsByPetType.put(((QuoteRequest.PetType) row[0]).name(), ((Long) row[1]).intValue());
+            }
         }
 
         builder.requestsByPetType(requestsByPetType);
 
         // 월별 요청 수
         Map<String, Integer> requestsByMonth = new HashMap<>();
-        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
-
-        List<QuoteRequest> allRequests = quoteRequestRepository.findAll();
-        allRequests.forEach(request -> {
-            String month = request.getCreatedAt().format(monthFormatter);
-            requestsByMonth.put(month, requestsByMonth.getOrDefault(month, 0) + 1);
-        });
+        for (Object[] row : quoteRequestRepository.countGroupByMonth()) {
+            String month = String.format("%04d-%02d", ((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            requestsByMonth.put(month, ((Long) row[2]).intValue());
+        }
 
         builder.requestsByMonth(requestsByMonth);
 
-        // 전체 견적 수락률
-        List<QuoteResponse> allResponses = quoteResponseRepository.findAll();
-        long acceptedResponsesCount = allResponses.stream()
-                .filter(response -> response.getStatus() == QuoteResponse.ResponseStatus.ACCEPTED)
-                .count();
-
-        double overallAcceptanceRate = allResponses.isEmpty() ? 0
-                : (double) acceptedResponsesCount / allResponses.size() * 100;
+        // 전체 견적 수락률, 요청당 평균 견적 제안 수
+        long totalOffers = 0;
+        long acceptedOffers = 0;
+        List<Object[]> offerCounts = quoteResponseRepository.countTotalAndAccepted();
+        if (!offerCounts.isEmpty()) {
+            Object[] row = offerCounts.get(0);
+            totalOffers = row[0] != null ? ((Number) row[0]).longValue() : 0;
+            acceptedOffers = row[1] != null ? ((Number) row[1]).longValue() : 0;
+        }
 
+        double overallAcceptanceRate = totalOffers == 0 ? 0 : (double) acceptedOffers / totalOffers * 100;
         builder.overallAcceptanceRate(Math.round(overallAcceptanceRate * 100) / 100.0);
 
-        // 요청당 평균 견적 제안 수
-        double avgOffersPerRequest = 0;
-        if (!allRequests.isEmpty()) {
-            int totalOffers = 0;
-            for (QuoteRequest request : allRequests) {
-                List<QuoteResponse> responses = quoteResponseRepository.findByQuoteRequestId(request.getId());
-                totalOffers += responses.size();
-            }
-            avgOffersPerRequest = (double) totalOffers / allRequests.size();
-        }
-
+        double avgOffersPerRequest = totalRequests == 0 ? 0 : (double) totalOffers / totalRequests;
         builder.averageOffersPerRequest(Math.round(avgOffersPerRequest * 100) / 100.0);
 
         return builder.build();
@@ -254,56 +204,7 @@ public class StatisticsService {
     /**
      * 기간별 통계 조회
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getPeriodStatistics(LocalDateTime startDate, LocalDateTime endDate) {
-        Map<String, Object> statistics = new HashMap<>();
-
-        // 기간 내 견적 요청 수
-        List<QuoteRequest> requests = quoteRequestRepository.findRequestsAfterDate(startDate)
-                .stream()
-                .filter(request -> request.getCreatedAt().isBefore(endDate))
-                .collect(Collectors.toList());
-
-        statistics.put("totalRequests", requests.size());
-
-        // 기간 내 결제 완료 건수 및 매출
-        List<Payment> payments = paymentRepository.findByCreatedAtBetween(startDate, endDate)
-                .stream()
-                .filter(payment -> payment.getStatus() == Payment.PaymentStatus.DONE)
-                .collect(Collectors.toList());
-
-        statistics.put("totalPayments", payments.size());
-        statistics.put("totalRevenue", payments.stream().mapToInt(Payment::getAmount).sum());
-
-        // 기간 내 평균 평점
-        List<Review> reviews = reviewRepository.findByCreatedAtBetween(startDate, endDate);
-        double averageRating = reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0);
-
-        statistics.put("totalReviews", reviews.size());
-        statistics.put("averageRating", Math.round(averageRating * 10) / 10.0);
-
-        // 기간 내 인기 서비스
-        Map<String, Integer> serviceTypeCount = new HashMap<>();
-        for (QuoteRequest request : requests) {
-            String serviceType = request.getServiceType().getDisplayName();
-            serviceTypeCount.put(serviceType, serviceTypeCount.getOrDefault(serviceType, 0) + 1);
-        }
-
-        String popularService = "";
-        int maxCount = 0;
-        for (Map.Entry<String, Integer> entry : serviceTypeCount.entrySet()) {
-            if (entry.getValue() > maxCount) {
-                maxCount = entry.getValue();
-                popularService = entry.getKey();
-            }
-        }
-
-        statistics.put("popularService", popularService);
-        statistics.put("serviceTypeCount", serviceTypeCount);
-
-        return statistics;
+        return dailyStatisticsService.getPeriodStatistics(startDate, endDate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 정보 스냅샷 캐시
+ * 인증 사용자(UserPrincipal)만으로 부족한 엔드포인트에서 전체 User가 필요할 때 사용
+ * 프로필이 바뀌면 커밋 이후에 제거하고, TTL이 지나면 다시 조회
+ * 요청의 영속성 컨텍스트와 섞이지 않도록 별도 EntityManager로 읽은 준영속 객체를 캐시하므로
+ * 연관관계 지정(ID 참조)과 조회에만 사용하고, 변경이 필요하면 UserRepository로 다시 조회
+ */
+@Component
+public class UserSnapshotCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final long ttlMillis;
+    private final Map<Long, Snapshot> snapshots;
+
+    @Autowired
+    public UserSnapshotCache(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${app.auth.user-cache-size:10000}") int cacheSize,
+            @Value("${app.auth.user-cache-ttl-seconds:300}") long ttlSeconds) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.ttlMillis = ttlSeconds * 1000;
+        // 접근 순서 기준으로 오래 사용하지 않은 사용자부터 제거
+        this.snapshots = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Snapshot> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 사용자 조회 (캐시에 없거나 오래되었으면 DB에서 읽음)
+     */
+    public User get(Long userId) {
+        long now = System.currentTimeMillis();
+        synchronized (snapshots) {
+            Snapshot cached = snapshots.get(userId);
+            if (cached != null && now - cached.loadedAt < ttlMillis) {
+                return cached.user;
+            }
+        }
+
+        User user;
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            user = entityManager.find(User.class, userId);
+        } finally {
+            entityManager.close();
+        }
+        if (user == null) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        synchronized (snapshots) {
+            snapshots.put(userId, new Snapshot(user, now));
+        }
+        return user;
+    }
+
+    /**
+     * 프로필 변경 반영 (트랜잭션 안이면 커밋 이후에 제거)
+     */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+        // 커밋 전에 다른 요청이 옛 값을 다시 적재하지 않도록 지금도 제거
+        remove(userId);
+    }
+
+    private void remove(Long userId) {
+        synchronized (snapshots) {
+            snapshots.remove(userId);
+        }
+    }
+
+    private static final class Snapshot {
+        private final User user;
+        private final long loadedAt;
+
+        private Snapshot(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
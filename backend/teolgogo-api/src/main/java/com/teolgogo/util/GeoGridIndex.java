@@ -0,0 +1,166 @@
+package com.teolgogo.util;
+
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 고정 크기 위경도 격자 기반 인메모리 공간 인덱스
+ * 반경 검색 시 반경을 덮는 셀만 조회하고, 후보에 대해서만 정확한 거리 계산을 수행
+ */
+public class GeoGridIndex<V> {
+
+    private final double cellSizeDegrees;
+    private final int lngCellCount;
+
+    // 셀 키 -> 셀에 포함된 항목 ID
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    // 항목 ID -> 위치 및 값
+    private final Map<Long, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0) {
+            throw new IllegalArgumentException("셀 크기는 0보다 커야 합니다.");
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.lngCellCount = (int) Math.ceil(360.0 / cellSizeDegrees);
+    }
+
+    /**
+     * 항목 추가 또는 위치/값 갱신
+     */
+    public void put(Long id, double latitude, double longitude, V value) {
+        long newCell = cellKey(latitude, longitude);
+        entries.compute(id, (key, previous) -> {
+            if (previous != null && previous.cell != newCell) {
+                removeFromCell(previous.cell, key);
+            }
+            cells.compute(newCell, (cell, ids) -> {
+                Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                target.add(key);
+                return target;
+            });
+            return new Entry<>(latitude, longitude, newCell, value);
+        });
+    }
+
+    /**
+     * 항목 제거
+     */
+    public void remove(Long id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            removeFromCell(previous.cell, key);
+            return null;
+        });
+    }
+
+    public V get(Long id) {
+        Entry<V> entry = entries.get(id);
+        return entry != null ? entry.value : null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+    }
+
+    /**
+     * 반경(km) 내 항목 검색 (거리 오름차순)
+     */
+    public List<GeoResult<V>> findWithinRadius(double latitude, double longitude, double radiusKm,
+                                               Predicate<V> filter) {
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lngDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+
+        int minLatIdx = latIndex(Math.max(-90.0, latitude - latDelta));
+        int maxLatIdx = latIndex(Math.min(90.0, latitude + latDelta));
+
+        int lngSpan = (int) Math.ceil(2 * lngDelta / cellSizeDegrees) + 1;
+        int startLngIdx = lngIndex(longitude - lngDelta);
+        int lngCells = Math.min(lngSpan, lngCellCount);
+
+        List<GeoResult<V>> results = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+
+        for (int latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+            for (int i = 0; i < lngCells; i++) {
+                int lngIdx = (startLngIdx + i) % lngCellCount;
+                Set<Long> ids = cells.get(toKey(latIdx, lngIdx));
+                if (ids == null) {
+                    continue;
+                }
+
+                for (Long id : ids) {
+                    if (!visited.add(id)) {
+                        continue;
+                    }
+
+                    Entry<V> entry = entries.get(id);
+                    if (entry == null || (filter != null && !filter.test(entry.value))) {
+                        continue;
+                    }
+
+                    double distance = GeoUtils.distanceKm(latitude, longitude, entry.latitude, entry.longitude);
+                    if (distance <= radiusKm) {
+                        results.add(new GeoResult<>(entry.value, new Distance(distance, Metrics.KILOMETERS)));
+                    }
+                }
+            }
+        }
+
+        results.sort(Comparator.comparingDouble(result -> result.getDistance().getValue()));
+        return results;
+    }
+
+    private void removeFromCell(long cell, Long id) {
+        cells.computeIfPresent(cell, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return toKey(latIndex(latitude), lngIndex(longitude));
+    }
+
+    private long toKey(int latIdx, int lngIdx) {
+        return ((long) latIdx << 32) | (lngIdx & 0xffffffffL);
+    }
+
+    private int latIndex(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellSizeDegrees);
+    }
+
+    private int lngIndex(double longitude) {
+        double normalized = ((longitude + 180.0) % 360.0 + 360.0) % 360.0;
+        return (int) Math.floor(normalized / cellSizeDegrees) % lngCellCount;
+    }
+
+    private static final class Entry<V> {
+        private final double latitude;
+        private final double longitude;
+        private final long cell;
+        private final V value;
+
+        private Entry(double latitude, double longitude, long cell, V value) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cell = cell;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.teolgogo.util;
+
+/**
+ * 위치 계산 유틸리티
+ */
+public final class GeoUtils {
+
+    // 지구 반지름 (km) - 기존 SQL 거리 계산식과 동일한 값 사용
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 위도 1도당 거리 (km)
+    public static final double KM_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리 계산 (haversine, km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 반경(km)을 위도 차이(도)로 변환
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE_LAT;
+    }
+
+    /**
+     * 반경(km)을 해당 위도에서의 경도 차이(도)로 변환
+     * 극지방에서는 경도 전체(180도)를 반환
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        if (cosLat < 0.01) {
+            return 180.0;
+        }
+        return Math.min(180.0, radiusKm / (KM_PER_DEGREE_LAT * cosLat));
+    }
+
+    /**
+     * 반경(km)을 덮는 위경도 경계 상자 계산
+     * 날짜변경선을 넘는 경우 경도 전체 범위를 사용
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double latDelta = latitudeDelta(radiusKm);
+        double lngDelta = longitudeDelta(latitude, radiusKm);
+
+        double minLng = longitude - lngDelta;
+        double maxLng = longitude + lngDelta;
+        if (minLng < -180.0 || maxLng > 180.0) {
+            minLng = -180.0;
+            maxLng = 180.0;
+        }
+
+        return new BoundingBox(
+                Math.max(-90.0, latitude - latDelta),
+                Math.min(90.0, latitude + latDelta),
+                minLng,
+                maxLng);
+    }
+
+    public static final class BoundingBox {
+        private final double minLatitude;
+        private final double maxLatitude;
+        private final double minLongitude;
+        private final double maxLongitude;
+
+        public BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+            this.minLatitude = minLatitude;
+            this.maxLatitude = maxLatitude;
+            this.minLongitude = minLongitude;
+            this.maxLongitude = maxLongitude;
+        }
+
+        public double getMinLatitude() {
+            return minLatitude;
+        }
+
+        public double getMaxLatitude() {
+            return maxLatitude;
+        }
+
+        public double getMinLongitude() {
+            return minLongitude;
+        }
+
+        public double getMaxLongitude() {
+            return maxLongitude;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.teolgogo.util;
+
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * 위경도를 단위 구면 위의 3차원 좌표로 변환해 구성한 불변 k-d 트리
+ * 3차원 현(chord) 거리는 대원 거리와 순서가 같으므로 최근접 탐색 결과가 실제 거리순과 일치
+ * 갱신이 필요하면 새 트리를 만들어 교체해서 사용
+ */
+public class SphericalKdTree<V> {
+
+    private final Node<V> root;
+    private final int size;
+
+    public SphericalKdTree(List<Point<V>> points) {
+        List<Point<V>> copy = new ArrayList<>(points);
+        this.root = build(copy, 0, copy.size());
+        this.size = copy.size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 기준 위치에서 가까운 순으로 최대 limit개 검색
+     * (거리, ID)가 커서 이하인 항목은 건너뛰어 이전 페이지 다음부터 이어서 반환
+     *
+     * @param maxDistanceKm 최대 거리(km), null이면 제한 없음
+     * @param afterDistanceKm 이전 페이지 마지막 항목의 거리, null이면 처음부터
+     * @param afterId 이전 페이지 마지막 항목의 ID
+     */
+    public List<GeoResult<Point<V>>> nearest(double latitude, double longitude, int limit,
+                                             Double maxDistanceKm, Double afterDistanceKm, Long afterId,
+                                             Predicate<V> filter) {
+        List<GeoResult<Point<V>>> results = new ArrayList<>();
+        if (root == null || limit <= 0) {
+            return results;
+        }
+
+        double[] target = toVector(latitude, longitude);
+        double maxChord = maxDistanceKm != null ? toChord(maxDistanceKm) : Double.MAX_VALUE;
+
+        // 노드(하한 거리)와 항목(정확한 거리)을 한 큐에서 꺼내면 항목이 거리순으로 확정됨
+        PriorityQueue<Candidate<V>> queue = new PriorityQueue<>(CANDIDATE_ORDER);
+        queue.add(Candidate.node(root, root.lowerBound(target)));
+
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate<V> candidate = queue.poll();
+            if (candidate.chord > maxChord) {
+                break;
+            }
+
+            if (candidate.point != null) {
+                double distanceKm = toKilometers(candidate.chord);
+                if (isAfterCursor(distanceKm, candidate.point.id, afterDistanceKm, afterId)
+                        && (filter == null || filter.test(candidate.point.value))) {
+                    results.add(new GeoResult<>(candidate.point, new Distance(distanceKm, Metrics.KILOMETERS)));
+                }
+                continue;
+            }
+
+            Node<V> node = candidate.node;
+            queue.add(Candidate.point(node.point, chord(target, node.point.vector)));
+            if (node.left != null) {
+                queue.add(Candidate.node(node.left, node.left.lowerBound(target)));
+            }
+            if (node.right != null) {
+                queue.add(Candidate.node(node.right, node.right.lowerBound(target)));
+            }
+        }
+
+        return results;
+    }
+
+    private static boolean isAfterCursor(double distanceKm, Long id, Double afterDistanceKm, Long afterId) {
+        if (afterDistanceKm == null) {
+            return true;
+        }
+        int compare = Double.compare(distanceKm, afterDistanceKm);
+        return compare > 0 || (compare == 0 && afterId != null && id.compareTo(afterId) > 0);
+    }
+
+    private static <V> Node<V> build(List<Point<V>> points, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+
+        // 분산이 가장 큰 축으로 분할
+        double[] min = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+        double[] max = {-Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int i = from; i < to; i++) {
+            double[] v = points.get(i).vector;
+            for (int axis = 0; axis < 3; axis++) {
+                min[axis] = Math.min(min[axis], v[axis]);
+                max[axis] = Math.max(max[axis], v[axis]);
+            }
+        }
+
+        int axis = 0;
+        for (int a = 1; a < 3; a++) {
+            if (max[a] - min[a] > max[axis] - min[axis]) {
+                axis = a;
+            }
+        }
+
+        int splitAxis = axis;
+        points.subList(from, to).sort(Comparator.comparingDouble(p -> p.vector[splitAxis]));
+        int mid = (from + to) >>> 1;
+
+        Node<V> node = new Node<>(points.get(mid), min, max);
+        node.left = build(points, from, mid);
+        node.right = build(points, mid + 1, to);
+        return node;
+    }
+
+    private static double[] toVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        double cosLat = Math.cos(lat);
+        return new double[]{cosLat * Math.cos(lng), cosLat * Math.sin(lng), Math.sin(lat)};
+    }
+
+    private static double chord(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    // 현 길이 -> 대원 거리(km)
+    private static double toKilometers(double chord) {
+        return 2 * GeoUtils.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, chord / 2));
+    }
+
+    // 대원 거리(km) -> 현 길이
+    private static double toChord(double distanceKm) {
+        double angle = Math.min(Math.PI, distanceKm / GeoUtils.EARTH_RADIUS_KM);
+        return 2 * Math.sin(angle / 2);
+    }
+
+    // 거리 오름차순, 같은 거리면 노드를 먼저 펼치고 항목은 ID순
+    private static final Comparator<Candidate<?>> CANDIDATE_ORDER = (a, b) -> {
+        int compare = Double.compare(a.chord, b.chord);
+        if (compare != 0) {
+            return compare;
+        }
+        if (a.point == null || b.point == null) {
+            return Boolean.compare(a.point != null, b.point != null);
+        }
+        return a.point.id.compareTo(b.point.id);
+    };
+
+    /**
+     * 트리에 저장되는 항목
+     */
+    public static final class Point<V> {
+        private final Long id;
+        private final double latitude;
+        private final double longitude;
+        private final V value;
+        private final double[] vector;
+
+        public Point(Long id, double latitude, double longitude, V value) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.value = value;
+            this.vector = toVector(latitude, longitude);
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public double getLatitude() {
+            return latitude;
+        }
+
+        public double getLongitude() {
+            return longitude;
+        }
+
+        public V getValue() {
+            return value;
+        }
+    }
+
+    private static final class Node<V> {
+        private final Point<V> point;
+        // 하위 트리 전체를 감싸는 3차원 경계 상자
+        private final double[] min;
+        private final double[] max;
+        private Node<V> left;
+        private Node<V> right;
+
+        private Node(Point<V> point, double[] min, double[] max) {
+            this.point = point;
+            this.min = min;
+            this.max = max;
+        }
+
+        // 기준점에서 경계 상자까지의 최소 현 길이
+        private double lowerBound(double[] target) {
+            double sum = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                double d = 0;
+                if (target[axis] < min[axis]) {
+                    d = min[axis] - target[axis];
+                } else if (target[axis] > max[axis]) {
+                    d = target[axis] - max[axis];
+                }
+                sum += d * d;
+            }
+            return Math.sqrt(sum);
+        }
+    }
+
+    private static final class Candidate<V> {
+        private final Node<V> node;
+        private final Point<V> point;
+        private final double chord;
+
+        private Candidate(Node<V> node, Point<V> point, double chord) {
+            this.node = node;
+            this.point = point;
+            this.chord = chord;
+        }
+
+        private static <V> Candidate<V> node(Node<V> node, double chord) {
+            return new Candidate<>(node, null, chord);
+        }
+
+        private static <V> Candidate<V> point(Point<V> point, double chord) {
+            return new Candidate<>(null, point, chord);
+        }
+    }
+}
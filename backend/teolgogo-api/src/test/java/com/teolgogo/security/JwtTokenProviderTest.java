@@ -0,0 +1,73 @@
+package com.teolgogo.security;
+
+import com.teolgogo.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final Instant START = Instant.parse("2024-05-01T00:00:00Z");
+
+    private static final String SECRET = "test-secret-key-for-teolgogo-jwt-signing-0123456789abcdef";
+
+    @Test
+    void verifiedClaimsAreServedFromCache() {
+        JwtTokenProvider provider = provider(60_000);
+        String token = provider.createAccessToken(user(), "family-1");
+
+        Claims first = provider.validateAndGetClaims(token);
+        Claims second = provider.validateAndGetClaims(token);
+
+        assertThat(first).isNotNull();
+        assertThat(first.getSubject()).isEqualTo("5");
+        assertThat(first.get(JwtTokenProvider.FAMILY_CLAIM, String.class)).isEqualTo("family-1");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        JwtTokenProvider provider = provider(60_000);
+        String token = provider.createAccessToken(user(), null);
+        provider.validateAndGetClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(provider.validateAndGetClaims(tampered)).isNull();
+    }
+
+    @Test
+    void cachedClaimsAreNotUsedAfterExpiry() {
+        JwtTokenProvider provider = provider(1_000);
+        provider.setClock(Clock.fixed(START, ZoneOffset.UTC));
+        String token = provider.createAccessToken(user(), null);
+        assertThat(provider.validateAndGetClaims(token)).isNotNull();
+
+        provider.setClock(Clock.fixed(START.plusMillis(999), ZoneOffset.UTC));
+        assertThat(provider.validateAndGetClaims(token)).isNotNull();
+
+        provider.setClock(Clock.fixed(START.plusSeconds(2), ZoneOffset.UTC));
+        assertThat(provider.validateAndGetClaims(token)).isNull();
+    }
+
+    private static JwtTokenProvider provider(long tokenExpirationMsec) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "tokenSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenExpirationMsec", tokenExpirationMsec);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpirationMsec", 600_000L);
+        ReflectionTestUtils.setField(provider, "tokenCacheSize", 100);
+        provider.init();
+        return provider;
+    }
+
+    private static User user() {
+        return User.builder().id(5L).name("사용자").email("user@example.com").role(User.Role.CUSTOMER).build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.teolgogo.security;
+
+import com.teolgogo.config.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RateLimitFilterTest {
+
+    private static final String REMOTE_ADDR = "10.0.0.1";
+
+    @Test
+    void ignoresSpoofedLeftmostEntry() {
+        // 클라이언트가 보낸 1.1.1.1 뒤에 프록시가 실제 접속 주소 2.2.2.2를 덧붙임
+        assertThat(resolve(1, "1.1.1.1, 2.2.2.2")).isEqualTo("2.2.2.2");
+    }
+
+    @Test
+    void countsTrustedHopsFromTheRight() {
+        assertThat(resolve(1, "9.9.9.9, 3.3.3.3, 172.16.0.2")).isEqualTo("172.16.0.2");
+        assertThat(resolve(2, "9.9.9.9, 3.3.3.3, 172.16.0.2")).isEqualTo("3.3.3.3");
+    }
+
+    @Test
+    void shorterHeaderThanHopsUsesLeftmostEntry() {
+        assertThat(resolve(3, "3.3.3.3, 172.16.0.2")).isEqualTo("3.3.3.3");
+    }
+
+    @Test
+    void blankEntriesAreSkipped() {
+        assertThat(resolve(1, ",")).isEqualTo(REMOTE_ADDR);
+        assertThat(resolve(1, " , ,")).isEqualTo(REMOTE_ADDR);
+        assertThat(resolve(1, "3.3.3.3, ,")).isEqualTo("3.3.3.3");
+    }
+
+    @Test
+    void headerIsIgnoredUnlessTrusted() {
+        RateLimitFilter filter = filter(false, 1);
+        assertThat(filter.resolveClientIp(request("1.1.1.1"))).isEqualTo(REMOTE_ADDR);
+    }
+
+    private static String resolve(int hops, String forwardedFor) {
+        return filter(true, hops).resolveClientIp(request(forwardedFor));
+    }
+
+    private static RateLimitFilter filter(boolean trustForwardedFor, int hops) {
+        AppProperties properties = new AppProperties();
+        properties.getRateLimit().setTrustForwardedFor(trustForwardedFor);
+        properties.getRateLimit().setTrustedProxyHops(hops);
+        return new RateLimitFilter(new RateLimiter(properties), mock(JwtTokenProvider.class));
+    }
+
+    private static MockHttpServletRequest request(String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr(REMOTE_ADDR);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
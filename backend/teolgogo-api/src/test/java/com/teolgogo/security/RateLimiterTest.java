@@ -0,0 +1,71 @@
+package com.teolgogo.security;
+
+import com.teolgogo.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+
+    private RateLimiter rateLimiter;
+    private RateLimiter.Route login;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties properties = new AppProperties();
+        properties.getRateLimit().setLogin(new AppProperties.Rule(2, 6)); // 2개, 10초마다 1개 충전
+        properties.getRateLimit().setIdleMinutes(1);
+        rateLimiter = new RateLimiter(properties);
+        login = rateLimiter.findRoute("POST", "/auth/login");
+    }
+
+    @Test
+    void rejectsWhenEmptyAndRefillsOverTime() {
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", START)).isZero();
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", START)).isZero();
+
+        // 다음 토큰까지 10초
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", START)).isEqualTo(10);
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", START + TimeUnit.SECONDS.toNanos(4))).isEqualTo(6);
+
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", START + TimeUnit.SECONDS.toNanos(10))).isZero();
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", START + TimeUnit.SECONDS.toNanos(10))).isPositive();
+
+        // 다른 클라이언트는 별도 버킷
+        assertThat(rateLimiter.tryAcquire(login, "ip:2.2.2.2", START)).isZero();
+        assertThat(rateLimiter.getMetrics()).containsEntry("login.rejected", 3L);
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        rateLimiter.tryAcquire(login, "ip:1.1.1.1", START);
+        long later = START + TimeUnit.HOURS.toNanos(1);
+
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", later)).isZero();
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", later)).isZero();
+        assertThat(rateLimiter.tryAcquire(login, "ip:1.1.1.1", later)).isPositive();
+    }
+
+    @Test
+    void evictsOnlyIdleFullBuckets() {
+        rateLimiter.tryAcquire(login, "ip:1.1.1.1", START);
+        rateLimiter.tryAcquire(login, "ip:2.2.2.2", START + TimeUnit.SECONDS.toNanos(55));
+        rateLimiter.tryAcquire(login, "ip:2.2.2.2", START + TimeUnit.SECONDS.toNanos(55));
+
+        // 1.1.1.1: 61초 동안 사용하지 않았고 가득 참, 2.2.2.2: 최근 사용했고 아직 다 차지 않음
+        rateLimiter.evictIdle(START + TimeUnit.SECONDS.toNanos(61));
+        assertThat(rateLimiter.getMetrics()).containsEntry("buckets", 1L);
+
+        // 충분히 지나면 모두 정리, 다시 요청하면 가득 찬 버킷으로 시작
+        long later = START + TimeUnit.MINUTES.toNanos(10);
+        rateLimiter.evictIdle(later);
+        assertThat(rateLimiter.getMetrics()).containsEntry("buckets", 0L);
+        assertThat(rateLimiter.tryAcquire(login, "ip:2.2.2.2", later)).isZero();
+        assertThat(rateLimiter.tryAcquire(login, "ip:2.2.2.2", later)).isZero();
+    }
+}
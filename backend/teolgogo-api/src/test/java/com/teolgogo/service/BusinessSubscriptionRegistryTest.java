@@ -0,0 +1,93 @@
+package com.teolgogo.service;
+
+import com.teolgogo.entity.PushSubscription;
+import com.teolgogo.entity.User;
+import com.teolgogo.repository.PushSubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BusinessSubscriptionRegistryTest {
+
+    // 서울 시청 근처
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    private PushSubscriptionRepository repository;
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PushSubscriptionRepository.class);
+        when(repository.findNotifiableLocatedSubscriptions(User.Role.BUSINESS)).thenAnswer(invocation -> new ArrayList<>(rows));
+        when(repository.findNotifiableSubscriptionsWithinBox(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> new ArrayList<>(rows));
+    }
+
+    @Test
+    void fallsBackToDatabaseUntilFirstLoad() {
+        rows.add(row(1L, 100L, LAT + 0.01, LNG));
+        rows.add(row(2L, 200L, LAT + 1.0, LNG)); // 반경 밖
+
+        Map<Long, List<PushSubscription>> found = registry(300).findWithinRadius(LAT, LNG, 5);
+
+        assertThat(found).containsOnlyKeys(100L);
+        verify(repository, never()).findNotifiableLocatedSubscriptions(any());
+    }
+
+    @Test
+    void reloadPicksUpChangesMadeOnOtherNodes() {
+        BusinessSubscriptionRegistry registry = registry(300);
+        rows.add(row(1L, 100L, LAT + 0.01, LNG));
+        registry.load();
+        assertThat(registry.findWithinRadius(LAT, LNG, 5)).containsOnlyKeys(100L);
+
+        // 다른 서버에서 구독한 업체 (이 서버의 커밋 후 반영을 거치지 않음)
+        rows.add(row(2L, 200L, LAT, LNG + 0.01));
+        registry.load();
+
+        assertThat(registry.findWithinRadius(LAT, LNG, 5)).containsOnlyKeys(100L, 200L);
+        verify(repository, never()).findNotifiableSubscriptionsWithinBox(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void staleIndexFallsBackToDatabase() {
+        BusinessSubscriptionRegistry registry = registry(0);
+        rows.add(row(1L, 100L, LAT + 0.01, LNG));
+        registry.load();
+
+        // 적재 이후 허용 시간이 지남 (적재 실패 등)
+        rows.add(row(2L, 200L, LAT, LNG + 0.01));
+        sleepMillis(5);
+
+        assertThat(registry.findWithinRadius(LAT, LNG, 5)).containsOnlyKeys(100L, 200L);
+    }
+
+    private BusinessSubscriptionRegistry registry(long maxStalenessSeconds) {
+        return new BusinessSubscriptionRegistry(repository, 0.05, 60, maxStalenessSeconds);
+    }
+
+    private static Object[] row(Long subscriptionId, Long businessId, double latitude, double longitude) {
+        return new Object[]{subscriptionId, "https://push.example/" + subscriptionId, "p256dh", "auth",
+                businessId, latitude, longitude, null};
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
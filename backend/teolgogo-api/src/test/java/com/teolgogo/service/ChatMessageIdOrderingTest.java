@@ -0,0 +1,118 @@
+package com.teolgogo.service;
+
+import com.teolgogo.dto.ChatMessageDTO;
+import com.teolgogo.entity.ChatMessage;
+import com.teolgogo.entity.ChatRoom;
+import com.teolgogo.entity.User;
+import com.teolgogo.repository.ChatMessageRepository;
+import com.teolgogo.repository.ChatRoomRepository;
+import com.teolgogo.repository.QuoteRequestRepository;
+import com.teolgogo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ChatMessageIdOrderingTest {
+
+    private static final String NEXT_ID_SQL = "SELECT NEXT VALUE FOR " + ChatMessage.ID_SEQUENCE;
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatRoomRepository chatRoomRepository;
+    private ChatMessageRepository chatMessageRepository;
+    private UserRepository userRepository;
+    private final AtomicLong sequence = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        userRepository = mock(UserRepository.class);
+
+        when(jdbcTemplate.queryForObject(eq(NEXT_ID_SQL), eq(Long.class)))
+                .thenAnswer(invocation -> sequence.incrementAndGet());
+
+        User customer = User.builder().id(1L).name("고객").build();
+        User business = User.builder().id(2L).name("업체").build();
+        ChatRoom room = ChatRoom.builder().id(10L).customer(customer).business(business).build();
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(room));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(customer));
+    }
+
+    @Test
+    void syncAndWriteBehindPathsShareOneOrderedSequence() {
+        ChatMessageIdAllocator allocator = allocator(true);
+        ChatService chatService = chatService(allocator);
+
+        long first = chatService.saveMessage(message()).getId();
+        long buffered = allocator.nextId();
+        long second = chatService.saveMessage(message()).getId();
+        long bufferedAgain = allocator.nextId();
+
+        // 보낸 순서대로 1씩 증가 (저장 경로마다 따로 미리 받아 둔 구간이 없음)
+        assertThat(List.of(first, buffered, second, bufferedAgain)).containsExactly(101L, 102L, 103L, 104L);
+        verify(chatMessageRepository).insertWithId(eq(101L), eq(10L), eq(1L), anyString(), anyBoolean(), any());
+        verify(chatMessageRepository).insertWithId(eq(103L), eq(10L), eq(1L), anyString(), anyBoolean(), any());
+        verify(chatMessageRepository, never()).save(any());
+        verify(chatRoomRepository).applyNewMessage(eq(10L), eq(103L), anyString(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void disabledAllocatorLeavesIdsToAutoIncrement() {
+        ChatMessageIdAllocator allocator = allocator(false);
+        allocator.alignSequence();
+        verifyNoInteractions(jdbcTemplate);
+        assertThatThrownBy(allocator::nextId).isInstanceOf(IllegalStateException.class);
+
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage saved = invocation.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
+        ChatMessageDTO saved = chatService(allocator).saveMessage(message());
+
+        assertThat(saved.getId()).isEqualTo(7L);
+        verify(chatMessageRepository, never()).insertWithId(any(), any(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void alignSequenceOnlyMovesForward() {
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM chat_messages", Long.class)).thenReturn(41L);
+
+        allocator(true).alignSequence();
+
+        verify(jdbcTemplate).execute(contains("INCREMENT BY 1 NOCACHE"));
+        verify(jdbcTemplate).queryForObject(contains("GREATEST"), eq(Long.class), eq(41L));
+    }
+
+    private ChatMessageIdAllocator allocator(boolean enabled) {
+        return new ChatMessageIdAllocator(jdbcTemplate, chatMessageRepository, enabled);
+    }
+
+    private ChatService chatService(ChatMessageIdAllocator allocator) {
+        return new ChatService(chatRoomRepository, chatMessageRepository, mock(QuoteRequestRepository.class),
+                userRepository, allocator, 30, 100);
+    }
+
+    private static ChatMessageDTO message() {
+        return ChatMessageDTO.builder().roomId(10L).senderId(1L).content("안녕하세요").build();
+    }
+}
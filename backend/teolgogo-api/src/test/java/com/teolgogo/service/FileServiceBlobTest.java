@@ -0,0 +1,239 @@
+package com.teolgogo.service;
+
+import com.teolgogo.config.FileStorageConfig;
+import com.teolgogo.entity.FileEntity;
+import com.teolgogo.repository.FileBlobRepository;
+import com.teolgogo.repository.FileRepository;
+import com.teolgogo.repository.QuoteRequestRepository;
+import com.teolgogo.repository.QuoteResponseRepository;
+import com.teolgogo.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileServiceBlobTest {
+
+    @TempDir
+    Path uploadDir;
+
+    // file_blobs 대신 쓰는 참조 수
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    private final Map<Long, FileEntity> files = new HashMap<>();
+
+    private FileBlobRepository fileBlobRepository;
+    private FileService fileService;
+
+    // 동시에 열려 있던 트랜잭션(커넥션) 수의 최댓값
+    private int maxOpenTransactions;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageConfig fileStorageConfig = mock(FileStorageConfig.class);
+        when(fileStorageConfig.getMaxFileSize()).thenReturn(1024L * 1024);
+
+        FileRepository fileRepository = mock(FileRepository.class);
+        AtomicLong ids = new AtomicLong();
+        when(fileRepository.save(any(FileEntity.class))).thenAnswer(invocation -> {
+            FileEntity file = invocation.getArgument(0);
+            file.setId(ids.incrementAndGet());
+            files.put(file.getId(), file);
+            return file;
+        });
+        when(fileRepository.findById(anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(files.get(invocation.<Long>getArgument(0))));
+
+        fileBlobRepository = mock(FileBlobRepository.class);
+        when(fileBlobRepository.acquire(anyString(), anyString(), anyLong())).thenAnswer(invocation -> {
+            refCounts.merge(invocation.getArgument(0), 1, Integer::sum);
+            return 1;
+        });
+        when(fileBlobRepository.release(anyString())).thenAnswer(invocation -> {
+            refCounts.computeIfPresent(invocation.getArgument(0), (checksum, count) -> count - 1);
+            return 1;
+        });
+        when(fileBlobRepository.findRefCount(anyString())).thenAnswer(invocation ->
+                refCounts.get(invocation.<String>getArgument(0)));
+        when(fileBlobRepository.deleteByChecksum(anyString())).thenAnswer(invocation ->
+                refCounts.remove(invocation.<String>getArgument(0)) != null ? 1 : 0);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        AtomicInteger openTransactions = new AtomicInteger();
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            maxOpenTransactions = Math.max(maxOpenTransactions, openTransactions.incrementAndGet());
+            return mock(TransactionStatus.class);
+        });
+        doAnswer(invocation -> openTransactions.decrementAndGet()).when(transactionManager).commit(any());
+        doAnswer(invocation -> openTransactions.decrementAndGet()).when(transactionManager).rollback(any());
+
+        fileService = new FileService(fileStorageConfig, fileRepository, fileBlobRepository,
+                mock(UserRepository.class), mock(QuoteRequestRepository.class), mock(QuoteResponseRepository.class),
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(fileService, "uploadDir", uploadDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void identicalUploadsShareOneBlob() throws IOException {
+        FileEntity first = store("dog.jpg", "same photo");
+        FileEntity second = store("dog-copy.jpg", "same photo");
+
+        assertThat(second.getFilePath()).isEqualTo(first.getFilePath());
+        assertThat(refCounts).containsEntry(first.getChecksum(), 2);
+        assertThat(Files.readString(uploadDir.resolve(first.getFilePath()))).isEqualTo("same photo");
+        assertThat(blobFiles()).hasSize(1);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void blobIsDeletedOnlyWithItsLastReference() throws IOException {
+        FileEntity first = store("dog.jpg", "same photo");
+        FileEntity second = store("dog-copy.jpg", "same photo");
+        Path blob = uploadDir.resolve(first.getFilePath());
+
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> fileService.deleteFile(first.getId()));
+        assertThat(refCounts).containsEntry(first.getChecksum(), 1);
+        assertThat(blob).exists();
+
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> fileService.deleteFile(second.getId()));
+        assertThat(refCounts).doesNotContainKey(first.getChecksum());
+        assertThat(blob).doesNotExist();
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void rolledBackDeleteRestoresTheBlob() throws IOException {
+        FileEntity file = store("dog.jpg", "photo");
+        Path blob = uploadDir.resolve(file.getFilePath());
+
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> fileService.deleteFile(file.getId()));
+
+        assertThat(blob).exists();
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void rolledBackUploadReleasesItsReference() throws IOException {
+        FileEntity[] uploaded = new FileEntity[1];
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> uploaded[0] = store("cat.jpg", "new photo"));
+
+        assertThat(refCounts).doesNotContainKey(uploaded[0].getChecksum());
+        assertThat(uploadDir.resolve(uploaded[0].getFilePath())).doesNotExist();
+    }
+
+    @Test
+    void rolledBackDuplicateKeepsTheSharedBlob() throws IOException {
+        FileEntity kept = store("dog.jpg", "same photo");
+
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> store("dog-copy.jpg", "same photo"));
+
+        assertThat(refCounts).containsEntry(kept.getChecksum(), 1);
+        assertThat(uploadDir.resolve(kept.getFilePath())).exists();
+    }
+
+    @Test
+    void uploadNeverHoldsTwoTransactionsAtOnce() throws IOException {
+        store("dog.jpg", "photo");
+        store("dog-copy.jpg", "photo");
+
+        assertThat(maxOpenTransactions).isEqualTo(1);
+    }
+
+    @Test
+    void uploadsThatAreNeverSavedAreDiscarded() throws IOException {
+        List<FileService.PreparedUpload> uploads = fileService.prepareUploads(List.of(
+                photo("dog.jpg", "first photo"), photo("cat.jpg", "second photo")));
+        assertThat(refCounts).hasSize(2);
+
+        // 첫 번째만 롤백된 트랜잭션에 연결된 경우, 나머지만 정리하고 두 번 되돌리지 않음
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> fileService.saveUpload(
+                uploads.get(0), FileEntity.FileCategory.PET_PHOTO, null, null, null));
+        fileService.discardUploads(uploads);
+        fileService.discardUploads(uploads);
+
+        assertThat(refCounts).isEmpty();
+        assertThat(blobFiles()).isEmpty();
+        verify(fileBlobRepository, times(2)).release(anyString());
+    }
+
+    @Test
+    void contentTypeIsNormalizedAgainstAllowList() {
+        assertThat(FileService.normalizeContentType("IMAGE/JPEG; charset=binary")).isEqualTo("image/jpeg");
+        assertThat(FileService.normalizeContentType("text/html")).isEqualTo("application/octet-stream");
+        assertThat(FileService.normalizeContentType("not a type")).isEqualTo("application/octet-stream");
+        assertThat(FileService.normalizeContentType(null)).isEqualTo("application/octet-stream");
+    }
+
+    private FileEntity store(String name, String content) throws IOException {
+        return fileService.storeFile(photo(name, content), FileEntity.FileCategory.PET_PHOTO, null, null, null);
+    }
+
+    private static MockMultipartFile photo(String name, String content) {
+        return new MockMultipartFile("file", name, "image/jpeg", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 트랜잭션 동기화를 켜고 작업한 뒤 지정한 결과로 완료 처리
+    private void inTransaction(int status, IoAction action) throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            action.run();
+        } finally {
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private List<Path> blobFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(uploadDir.resolve("blobs"))) {
+            return paths.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private List<Path> tempFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(uploadDir.resolve("temp"))) {
+            return paths.toList();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,127 @@
+package com.teolgogo.service;
+
+import com.teolgogo.dto.TokenResponse;
+import com.teolgogo.entity.RefreshTokenFamily;
+import com.teolgogo.entity.User;
+import com.teolgogo.repository.RefreshTokenFamilyRepository;
+import com.teolgogo.security.JwtTokenProvider;
+import com.teolgogo.security.TokenFamilyDenylist;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private static final String FAMILY_ID = "family-1";
+
+    private RefreshTokenFamilyRepository familyRepository;
+    private JwtTokenProvider tokenProvider;
+    private TokenFamilyDenylist denylist;
+    private RefreshTokenFamily family;
+    private LocalDateTime familyExpiresAt;
+
+    @BeforeEach
+    void setUp() {
+        familyRepository = mock(RefreshTokenFamilyRepository.class);
+        tokenProvider = mock(JwtTokenProvider.class);
+        denylist = mock(TokenFamilyDenylist.class);
+
+        familyExpiresAt = LocalDateTime.now().plusDays(14);
+        family = RefreshTokenFamily.builder()
+                .id(FAMILY_ID)
+                .userId(5L)
+                .currentTokenId("t1")
+                .expiresAt(familyExpiresAt)
+                .build();
+        when(familyRepository.findByIdForUpdate(FAMILY_ID)).thenReturn(Optional.of(family));
+
+        when(tokenProvider.createAccessToken(any(User.class), eq(FAMILY_ID))).thenReturn("access");
+        when(tokenProvider.createRefreshToken(any(User.class), eq(FAMILY_ID), anyString()))
+                .thenAnswer(invocation -> "refresh:" + invocation.getArgument(2));
+        when(tokenProvider.getRefreshTokenExpirationMsec()).thenReturn(14L * 24 * 60 * 60 * 1000);
+    }
+
+    @Test
+    void rotationIssuesNewTokenAndRetiresTheOldOne() {
+        TokenResponse response = service(10).rotate(token("t1"));
+
+        assertThat(family.getPreviousTokenId()).isEqualTo("t1");
+        assertThat(family.getCurrentTokenId()).isNotEqualTo("t1");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh:" + family.getCurrentTokenId());
+        verify(denylist, never()).add(anyString(), any());
+    }
+
+    @Test
+    void concurrentRequestWithJustRotatedTokenGetsAccessTokenOnly() {
+        RefreshTokenService service = service(10);
+        service.rotate(token("t1"));
+
+        TokenResponse response = service.rotate(token("t1"));
+
+        assertThat(response.getAccessToken()).isEqualTo("access");
+        assertThat(response.getRefreshToken()).isNull();
+        assertThat(family.getRevokedAt()).isNull();
+    }
+
+    @Test
+    void reusedTokenRevokesTheWholeFamily() {
+        RefreshTokenService service = service(0);
+        service.rotate(token("t1"));
+        String current = family.getCurrentTokenId();
+
+        // 이미 교체된 토큰이 다시 들어오면 계열 폐기
+        assertThatThrownBy(() -> service.rotate(token("t1"))).isInstanceOf(RuntimeException.class);
+        assertThat(family.getRevokedAt()).isNotNull();
+        assertThat(family.getRevokeReason()).isEqualTo(RefreshTokenService.REASON_REUSE);
+        verify(denylist).add(FAMILY_ID, familyExpiresAt);
+
+        // 정상 사용자가 가진 최신 토큰도 더 이상 쓸 수 없음
+        assertThatThrownBy(() -> service.rotate(token(current))).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void revokedFamilyIsRejectedWithoutDatabaseLookup() {
+        when(denylist.isRevoked(FAMILY_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> service(10).rotate(token("t1"))).isInstanceOf(RuntimeException.class);
+        verify(familyRepository, never()).findByIdForUpdate(anyString());
+    }
+
+    private RefreshTokenService service(long reuseGraceSeconds) {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+
+        UserSnapshotCache userSnapshotCache = mock(UserSnapshotCache.class);
+        when(userSnapshotCache.get(5L)).thenReturn(User.builder().id(5L).name("사용자").build());
+
+        return new RefreshTokenService(familyRepository, tokenProvider, denylist, userSnapshotCache,
+                transactionTemplate, reuseGraceSeconds);
+    }
+
+    // 검증을 통과한 리프레시 토큰 (토큰 문자열은 토큰 ID로 대신함)
+    private String token(String tokenId) {
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn("5");
+        when(claims.getId()).thenReturn(tokenId);
+        when(claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class)).thenReturn(FAMILY_ID);
+        when(tokenProvider.validateAndGetClaims(tokenId)).thenReturn(claims);
+        return tokenId;
+    }
+}
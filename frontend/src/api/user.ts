@@ -117,7 +117,7 @@ export const findNearbyBusinesses = async (
         specialties: specialties?.join(','),
       },
     });
-    return response.data;
+    return response.data.content;
   } catch (error) {
     console.error('가까운 업체 검색 실패:', error);
     throw error;